@@ -0,0 +1,212 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+import com.sorting.validation.InputValidator;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Selection sort over the remaining elements [position, limit) of an IntBuffer using absolute get/put,
+// so heap, direct and memory-mapped buffers are sorted where they live without copying into an int[].
+// A MemorySegment can be passed as segment.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().
+// Buffers longer than the heap threshold use an in-place heapsort, as SelectionSort does.
+public class BufferSelectionSort {
+
+    private final SortingMetrics metrics;
+    private final boolean enableMetrics;
+    private int heapThreshold = SelectionSort.DEFAULT_STRATEGY_THRESHOLD;
+
+    public BufferSelectionSort() {
+        this(true);
+    }
+
+    public BufferSelectionSort(boolean enableMetrics) {
+        this.enableMetrics = enableMetrics;
+        this.metrics = enableMetrics ? new SortingMetrics() : null;
+    }
+
+    public void sort(IntBuffer buffer) {
+        sort(buffer, false);
+    }
+
+    public void sortDescending(IntBuffer buffer) {
+        sort(buffer, true);
+    }
+
+    // Sorts a file of little-endian 32-bit ints in place through a read-write mapping.
+    public void sortFile(Path file) throws IOException {
+        sortFile(file, false);
+    }
+
+    public void sortFileDescending(Path file) throws IOException {
+        sortFile(file, true);
+    }
+
+    private void sortFile(Path file, boolean descending) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(
+                        String.format("File size %d is not a multiple of %d bytes", size, Integer.BYTES));
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        String.format("File size %d exceeds a single mapping; use the external sort", size));
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            sort(mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer(), descending);
+            mapped.force();
+        }
+    }
+
+    private void sort(IntBuffer buffer, boolean descending) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException("Buffer is read-only");
+        }
+
+        int start = buffer.position();
+        int end = buffer.limit();
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        if (end - start > heapThreshold) {
+            heapSort(buffer, start, end, descending);
+        } else {
+            selectionSort(buffer, start, end, descending);
+        }
+
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+    }
+
+    private void selectionSort(IntBuffer buffer, int start, int end, boolean descending) {
+        for (int i = start; i < end - 1; i++) {
+            int index = i;
+            int extreme = buffer.get(i);
+            for (int j = i + 1; j < end; j++) {
+                int value = buffer.get(j);
+                if (descending ? value > extreme : value < extreme) {
+                    extreme = value;
+                    index = j;
+                }
+            }
+
+            if (index != i) {
+                buffer.put(index, buffer.get(i));
+                buffer.put(i, extreme);
+            }
+            if (enableMetrics) {
+                long comparisons = end - i - 1;
+                metrics.incrementComparisons(comparisons);
+                metrics.incrementArrayAccess(1 + 2 * comparisons);
+                if (index != i) {
+                    metrics.incrementSwaps();
+                    metrics.incrementArrayAccess(4);
+                }
+                metrics.incrementIterations();
+            }
+        }
+    }
+
+    private void heapSort(IntBuffer buffer, int start, int end, boolean descending) {
+        int n = end - start;
+        long comparisons = 0;
+        long swaps = 0;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            long counts = siftDown(buffer, start, i, n, descending);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+        }
+        for (int last = n - 1; last > 0; last--) {
+            swap(buffer, start, start + last);
+            swaps++;
+            long counts = siftDown(buffer, start, 0, last, descending);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+        }
+
+        if (enableMetrics) {
+            metrics.setMode(SortMode.HEAP);
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementSwaps(swaps);
+            metrics.incrementArrayAccess(2 * comparisons + 4 * swaps);
+            metrics.incrementIterations(Math.max(0, n - 1));
+        }
+    }
+
+    // Heap indices are relative to base. Returns comparisons in the high 32 bits and swaps in the low 32 bits.
+    private static long siftDown(IntBuffer buffer, int base, int root, int size, boolean minHeap) {
+        long comparisons = 0;
+        long swaps = 0;
+        int parent = root;
+        int child = 2 * parent + 1;
+
+        while (child < size) {
+            if (child + 1 < size) {
+                comparisons++;
+                int right = buffer.get(base + child + 1);
+                int left = buffer.get(base + child);
+                if (minHeap ? right < left : right > left) {
+                    child++;
+                }
+            }
+            comparisons++;
+            int childValue = buffer.get(base + child);
+            int parentValue = buffer.get(base + parent);
+            if (minHeap ? childValue >= parentValue : childValue <= parentValue) {
+                break;
+            }
+            buffer.put(base + parent, childValue);
+            buffer.put(base + child, parentValue);
+            swaps++;
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        return (comparisons << 32) | swaps;
+    }
+
+    private static void swap(IntBuffer buffer, int i, int j) {
+        int temp = buffer.get(i);
+        buffer.put(i, buffer.get(j));
+        buffer.put(j, temp);
+    }
+
+    public int getHeapThreshold() {
+        return heapThreshold;
+    }
+
+    public void setHeapThreshold(int heapThreshold) {
+        InputValidator.validateNonNegative(heapThreshold, "Heap threshold");
+        this.heapThreshold = heapThreshold;
+    }
+
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferSelectionSort [Time: O(n²), Space: O(1), Stable: No, In-place: Yes]";
+    }
+}
@@ -0,0 +1,297 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortingMetrics;
+import com.sorting.validation.InputValidator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+// Selection sort for object arrays and lists. Comparisons are comparator invocations.
+// The sortBy*Key methods extract every key once into a primitive array (Schwartzian transform),
+// select over the keys with an index array alongside, and permute the elements once at the end,
+// so a key extractor runs n times instead of on every comparison.
+public class GenericSelectionSort {
+
+    private final SortingMetrics metrics;
+    private final boolean enableMetrics;
+
+    public GenericSelectionSort() {
+        this(true);
+    }
+
+    public GenericSelectionSort(boolean enableMetrics) {
+        this.enableMetrics = enableMetrics;
+        this.metrics = enableMetrics ? new SortingMetrics() : null;
+    }
+
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        InputValidator.validateNoNulls(array);
+        validateFunction(comparator, "Comparator");
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            T min = array[i];
+            for (int j = i + 1; j < n; j++) {
+                if (comparator.compare(array[j], min) < 0) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                array[minIndex] = array[i];
+                array[i] = min;
+            }
+            if (enableMetrics) {
+                recordPass(i, n, minIndex != i);
+            }
+        }
+
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+    }
+
+    public <T> void sortDescending(T[] array, Comparator<? super T> comparator) {
+        validateFunction(comparator, "Comparator");
+        sort(array, comparator.reversed());
+    }
+
+    public <T> void sort(List<T> list, Comparator<? super T> comparator) {
+        validateList(list);
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sort(array, comparator);
+        writeBack(list, array);
+    }
+
+    public <T> void sortByIntKey(T[] array, ToIntFunction<? super T> keyExtractor) {
+        InputValidator.validateNoNulls(array);
+        validateFunction(keyExtractor, "Key extractor");
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        int n = array.length;
+        int[] keys = new int[n];
+        int[] order = identity(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            int min = keys[i];
+            for (int j = i + 1; j < n; j++) {
+                if (keys[j] < min) {
+                    min = keys[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                keys[minIndex] = keys[i];
+                keys[i] = min;
+                swap(order, i, minIndex);
+            }
+            if (enableMetrics) {
+                recordPass(i, n, minIndex != i);
+            }
+        }
+
+        permute(array, order);
+        if (enableMetrics) {
+            // keys, order and the permutation copy
+            metrics.incrementMemoryAllocations(scratchBytes(n, Integer.BYTES));
+            metrics.endRun();
+        }
+    }
+
+    public <T> void sortByLongKey(T[] array, ToLongFunction<? super T> keyExtractor) {
+        InputValidator.validateNoNulls(array);
+        validateFunction(keyExtractor, "Key extractor");
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        int n = array.length;
+        long[] keys = new long[n];
+        int[] order = identity(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            long min = keys[i];
+            for (int j = i + 1; j < n; j++) {
+                if (keys[j] < min) {
+                    min = keys[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                keys[minIndex] = keys[i];
+                keys[i] = min;
+                swap(order, i, minIndex);
+            }
+            if (enableMetrics) {
+                recordPass(i, n, minIndex != i);
+            }
+        }
+
+        permute(array, order);
+        if (enableMetrics) {
+            metrics.incrementMemoryAllocations(scratchBytes(n, Long.BYTES));
+            metrics.endRun();
+        }
+    }
+
+    // Keys are ordered by Double.compare: -0.0 before 0.0, NaN last.
+    public <T> void sortByDoubleKey(T[] array, ToDoubleFunction<? super T> keyExtractor) {
+        InputValidator.validateNoNulls(array);
+        validateFunction(keyExtractor, "Key extractor");
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        int n = array.length;
+        double[] keys = new double[n];
+        int[] order = identity(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsDouble(array[i]);
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            double min = keys[i];
+            for (int j = i + 1; j < n; j++) {
+                if (Double.compare(keys[j], min) < 0) {
+                    min = keys[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                keys[minIndex] = keys[i];
+                keys[i] = min;
+                swap(order, i, minIndex);
+            }
+            if (enableMetrics) {
+                recordPass(i, n, minIndex != i);
+            }
+        }
+
+        permute(array, order);
+        if (enableMetrics) {
+            metrics.incrementMemoryAllocations(scratchBytes(n, Double.BYTES));
+            metrics.endRun();
+        }
+    }
+
+    public <T> void sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor) {
+        validateList(list);
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sortByIntKey(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    public <T> void sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor) {
+        validateList(list);
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sortByLongKey(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    public <T> void sortByDoubleKey(List<T> list, ToDoubleFunction<? super T> keyExtractor) {
+        validateList(list);
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        sortByDoubleKey(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    // Key copy, index array and reordered element references.
+    private static long scratchBytes(int n, int keyBytes) {
+        return (long) n * (keyBytes + Integer.BYTES + SortingMetrics.REFERENCE_BYTES);
+    }
+
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        return metrics;
+    }
+
+    private void recordPass(int start, int end, boolean swapped) {
+        long comparisons = end - start - 1;
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementArrayAccess(1 + 2 * comparisons);
+        if (swapped) {
+            metrics.incrementSwaps();
+            metrics.incrementArrayAccess(4);
+        }
+        metrics.incrementIterations();
+    }
+
+    private static int[] identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static <T> void permute(T[] array, int[] order) {
+        T[] original = array.clone();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = original[order[i]];
+        }
+    }
+
+    private static <T> void writeBack(List<T> list, T[] array) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    private static void validateList(List<?> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+    }
+
+    private static void validateFunction(Object function, String name) {
+        if (function == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GenericSelectionSort [Time: O(n²), Space: O(1), O(n) with cached keys, Stable: No, In-place: Yes]";
+    }
+}
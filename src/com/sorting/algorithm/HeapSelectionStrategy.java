@@ -0,0 +1,119 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+
+// Tournament selection with an implicit binary heap (heapsort): in place, O(1) space, O(n log n) time.
+// Ascending order repeatedly selects the maximum of a max-heap into the end of the array;
+// descending order does the same with a min-heap.
+public class HeapSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public void sort(int[] array, boolean descending) {
+        int n = array.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, i, n, descending);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, 0, end);
+            siftDown(array, 0, end, descending);
+        }
+    }
+
+    @Override
+    public void sort(int[] array, boolean descending, SortingMetrics metrics) {
+        metrics.setMode(SortMode.HEAP);
+
+        int n = array.length;
+        long comparisons = 0;
+        long swaps = 0;
+        long iterations = 0;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            long counts = siftDownCounted(array, i, n, descending);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, 0, end);
+            swaps++;
+            long counts = siftDownCounted(array, 0, end, descending);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+            iterations++;
+        }
+
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementSwaps(swaps);
+        metrics.incrementArrayAccess(2 * comparisons + 4 * swaps);
+        metrics.incrementIterations(iterations);
+    }
+
+    @Override
+    public String getName() {
+        return "Heap Selection";
+    }
+
+    // Hole-based sift: moves the root value down without intermediate swaps.
+    static void siftDown(int[] array, int root, int end, boolean minHeap) {
+        int value = array[root];
+        int hole = root;
+        int child = 2 * hole + 1;
+
+        while (child < end) {
+            if (child + 1 < end && before(array[child + 1], array[child], minHeap)) {
+                child++;
+            }
+            if (!before(array[child], value, minHeap)) {
+                break;
+            }
+            array[hole] = array[child];
+            hole = child;
+            child = 2 * hole + 1;
+        }
+        array[hole] = value;
+    }
+
+    // Swap-based sift that returns comparisons in the high 32 bits and swaps in the low 32 bits,
+    // so the caller can accumulate counts in locals and publish them once.
+    static long siftDownCounted(int[] array, int root, int end, boolean minHeap) {
+        long comparisons = 0;
+        long swaps = 0;
+        int parent = root;
+        int child = 2 * parent + 1;
+
+        while (child < end) {
+            if (child + 1 < end) {
+                comparisons++;
+                if (before(array[child + 1], array[child], minHeap)) {
+                    child++;
+                }
+            }
+            comparisons++;
+            if (!before(array[child], array[parent], minHeap)) {
+                break;
+            }
+            swap(array, parent, child);
+            swaps++;
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        return (comparisons << 32) | swaps;
+    }
+
+    // True if a belongs closer to the heap root than b.
+    private static boolean before(int a, int b, boolean minHeap) {
+        return minHeap ? a < b : a > b;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    @Override
+    public String toString() {
+        return "HeapSelectionStrategy [Time: O(n log n), Space: O(1), Stable: No, In-place: Yes]";
+    }
+}
@@ -0,0 +1,244 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+import com.sorting.validation.InputValidator;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Accepts elements as they arrive and hands them back in ascending order on demand.
+// Elements are appended to a growable int[] in O(1); the prefix [0, heapSize) is an implicit min-heap
+// and the suffix [heapSize, size) is still unordered. The first read after a batch of adds settles the
+// suffix, either by rebuilding the whole heap (O(n), when the batch outnumbers the heap) or by sifting
+// each new element up. Consuming k of n elements therefore costs O(n + k log n) instead of O(n²).
+public class IncrementalSelectionSorter {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SortingMetrics metrics;
+    private final boolean enableMetrics;
+
+    private int[] buffer;
+    private int size;
+    private int heapSize;
+
+    private long addCount;
+    private long pollCount;
+    private long peekCount;
+
+    public IncrementalSelectionSorter() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    public IncrementalSelectionSorter(boolean enableMetrics) {
+        this(DEFAULT_CAPACITY, enableMetrics);
+    }
+
+    public IncrementalSelectionSorter(int initialCapacity, boolean enableMetrics) {
+        InputValidator.validateNonNegative(initialCapacity, "Initial capacity");
+        this.buffer = new int[Math.max(1, initialCapacity)];
+        this.enableMetrics = enableMetrics;
+        this.metrics = enableMetrics ? new SortingMetrics() : null;
+        if (enableMetrics) {
+            metrics.setMode(SortMode.INCREMENTAL);
+            metrics.incrementMemoryAllocations((long) buffer.length * Integer.BYTES);
+        }
+    }
+
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        buffer[size++] = value;
+        addCount++;
+        if (enableMetrics) {
+            metrics.incrementArrayAccess();
+        }
+    }
+
+    public void addAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, buffer, size, values.length);
+        size += values.length;
+        addCount += values.length;
+        if (enableMetrics) {
+            metrics.incrementArrayAccess(values.length);
+        }
+    }
+
+    public int peekMin() {
+        requireElements();
+        settle();
+        peekCount++;
+        if (enableMetrics) {
+            metrics.incrementArrayAccess();
+        }
+        return buffer[0];
+    }
+
+    public int pollMin() {
+        requireElements();
+        settle();
+        return removeRoot();
+    }
+
+    // Emits every remaining element in ascending order and leaves the sorter empty.
+    public void drainSorted(IntConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+
+        settle();
+        while (size > 0) {
+            consumer.accept(removeRoot());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Starts over as if newly constructed: counters and metrics restart, and the allocation counter
+    // reports the retained buffer.
+    public void clear() {
+        size = 0;
+        heapSize = 0;
+        addCount = 0;
+        pollCount = 0;
+        peekCount = 0;
+        if (enableMetrics) {
+            metrics.reset();
+            metrics.setMode(SortMode.INCREMENTAL);
+            metrics.incrementMemoryAllocations((long) buffer.length * Integer.BYTES);
+        }
+    }
+
+    private int removeRoot() {
+        int min = buffer[0];
+        size--;
+        heapSize--;
+        pollCount++;
+
+        if (size > 0) {
+            buffer[0] = buffer[size];
+            if (enableMetrics) {
+                long counts = HeapSelectionStrategy.siftDownCounted(buffer, 0, heapSize, true);
+                record(counts);
+                metrics.incrementArrayAccess(3);
+            } else {
+                HeapSelectionStrategy.siftDown(buffer, 0, heapSize, true);
+            }
+        }
+        if (enableMetrics) {
+            metrics.incrementIterations();
+        }
+        return min;
+    }
+
+    // Folds pending appends into the heap; only the heap prefix is touched by removeRoot.
+    private void settle() {
+        int pending = size - heapSize;
+        if (pending == 0) {
+            return;
+        }
+
+        if (pending > heapSize) {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                if (enableMetrics) {
+                    record(HeapSelectionStrategy.siftDownCounted(buffer, i, size, true));
+                } else {
+                    HeapSelectionStrategy.siftDown(buffer, i, size, true);
+                }
+            }
+        } else {
+            for (int i = heapSize; i < size; i++) {
+                long counts = siftUp(buffer, i);
+                if (enableMetrics) {
+                    record(counts);
+                }
+            }
+        }
+        heapSize = size;
+    }
+
+    // Returns comparisons in the high 32 bits and swaps in the low 32 bits, as siftDownCounted does.
+    private static long siftUp(int[] array, int index) {
+        long comparisons = 0;
+        long swaps = 0;
+        int value = array[index];
+        int hole = index;
+
+        while (hole > 0) {
+            int parent = (hole - 1) / 2;
+            comparisons++;
+            if (array[parent] <= value) {
+                break;
+            }
+            array[hole] = array[parent];
+            hole = parent;
+            swaps++;
+        }
+        array[hole] = value;
+        return (comparisons << 32) | swaps;
+    }
+
+    private void record(long counts) {
+        long comparisons = counts >>> 32;
+        long swaps = counts & 0xFFFFFFFFL;
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementSwaps(swaps);
+        metrics.incrementArrayAccess(2 * comparisons + 4 * swaps);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required < 0) {
+            throw new IllegalStateException("Sorter capacity exceeded");
+        }
+        if (required <= buffer.length) {
+            return;
+        }
+
+        int grown = buffer.length + (buffer.length >> 1);
+        buffer = Arrays.copyOf(buffer, Math.max(required, grown < 0 ? Integer.MAX_VALUE - 8 : grown));
+        if (enableMetrics) {
+            metrics.incrementMemoryAllocations((long) buffer.length * Integer.BYTES);
+        }
+    }
+
+    private void requireElements() {
+        if (size == 0) {
+            throw new IllegalStateException("Sorter is empty");
+        }
+    }
+
+    public long getAddCount() {
+        return addCount;
+    }
+
+    public long getPollCount() {
+        return pollCount;
+    }
+
+    public long getPeekCount() {
+        return peekCount;
+    }
+
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalSelectionSorter [Add: O(1), Poll: O(log n) amortized, Space: O(n), Stable: No]";
+    }
+}
@@ -0,0 +1,128 @@
+package com.sorting.algorithm;
+
+// Quickselect with median-of-three pivots and a three-way partition. If the active range fails to halve
+// within two partitions, pivots switch to median-of-medians for the rest of the call, which bounds
+// the worst case at O(n). One instance serves one call; counters are read afterwards.
+final class IntroSelect {
+
+    private static final int INSERTION_THRESHOLD = 16;
+
+    long comparisons;
+    long swaps;
+
+    void select(int[] array, int k) {
+        select(array, 0, array.length - 1, k, false);
+    }
+
+    private void select(int[] array, int low, int high, int k, boolean medianOfMedians) {
+        int checkpointSize = high - low + 1;
+        int step = 0;
+
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            int pivotIndex = medianOfMedians
+                    ? medianOfMedians(array, low, high)
+                    : medianOfThree(array, low, high);
+
+            long bounds = partition(array, low, high, array[pivotIndex]);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+
+            if (k < lessEnd) {
+                high = lessEnd - 1;
+            } else if (k >= greaterStart) {
+                low = greaterStart;
+            } else {
+                return;
+            }
+
+            if (!medianOfMedians && ++step == 2) {
+                int size = high - low + 1;
+                medianOfMedians = size > checkpointSize / 2;
+                checkpointSize = size;
+                step = 0;
+            }
+        }
+        insertionSort(array, low, high);
+    }
+
+    // Three-way partition around the pivot value. Returns the start of the equal block in the high
+    // 32 bits and the start of the greater block in the low 32 bits.
+    private long partition(int[] array, int low, int high, int pivot) {
+        int less = low;
+        int i = low;
+        int greater = high;
+
+        while (i <= greater) {
+            int value = array[i];
+            comparisons++;
+            if (value < pivot) {
+                swap(array, less++, i++);
+            } else {
+                comparisons++;
+                if (value > pivot) {
+                    swap(array, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+        }
+        return ((long) less << 32) | ((greater + 1) & 0xFFFFFFFFL);
+    }
+
+    private int medianOfThree(int[] array, int low, int high) {
+        int middle = (low + high) >>> 1;
+        comparisons += 3;
+        int a = array[low];
+        int b = array[middle];
+        int c = array[high];
+        if (a < b) {
+            return b < c ? middle : (a < c ? high : low);
+        }
+        return a < c ? low : (b < c ? high : middle);
+    }
+
+    // Moves the median of every group of five to the front of the range, then selects the median of
+    // those medians in place.
+    private int medianOfMedians(int[] array, int low, int high) {
+        int medians = 0;
+        for (int groupStart = low; groupStart <= high; groupStart += 5) {
+            int groupEnd = Math.min(groupStart + 4, high);
+            insertionSort(array, groupStart, groupEnd);
+            swap(array, low + medians, groupStart + (groupEnd - groupStart) / 2);
+            medians++;
+        }
+
+        int middle = low + (medians - 1) / 2;
+        select(array, low, low + medians - 1, middle, true);
+        return middle;
+    }
+
+    private void insertionSort(int[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= low) {
+                comparisons++;
+                if (array[j] <= value) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+            if (j + 1 != i) {
+                swaps++;
+            }
+        }
+    }
+
+    private void swap(int[] array, int i, int j) {
+        if (i == j) {
+            return;
+        }
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        swaps++;
+    }
+}
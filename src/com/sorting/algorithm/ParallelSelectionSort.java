@@ -0,0 +1,279 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortEvent;
+import com.sorting.metrics.SortingMetrics;
+import com.sorting.metrics.SortingTelemetry;
+import com.sorting.validation.InputValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelSelectionSort extends SelectionSort {
+
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = TuningProfile.DEFAULT_PARALLEL_CUTOFF;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int sequentialCutoff;
+
+    public ParallelSelectionSort() {
+        this(true);
+    }
+
+    public ParallelSelectionSort(boolean enableMetrics) {
+        this(enableMetrics, Runtime.getRuntime().availableProcessors(), TuningProfile.current().parallelCutoff());
+    }
+
+    public ParallelSelectionSort(boolean enableMetrics, int parallelism, int sequentialCutoff) {
+        super(enableMetrics);
+        InputValidator.validatePositive(parallelism, "Parallelism");
+        InputValidator.validatePositive(sequentialCutoff, "Sequential cutoff");
+        this.parallelism = parallelism;
+        this.sequentialCutoff = sequentialCutoff;
+        this.pool = new ForkJoinPool(parallelism);
+        setStrategy(null);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    // Scans longer than the cutoff are split into chunks whose (value, index) results are reduced in pairs.
+    @Override
+    protected int findMinimumIndex(int[] array, int start, int end) {
+        if (end - start <= sequentialCutoff) {
+            return super.findMinimumIndex(array, start, end);
+        }
+        ExtremeIndexTask task = new ExtremeIndexTask(array, start, end, false);
+        pool.invoke(task);
+        return task.index;
+    }
+
+    @Override
+    protected int findMaximumIndex(int[] array, int start, int end) {
+        if (end - start <= sequentialCutoff) {
+            return super.findMaximumIndex(array, start, end);
+        }
+        ExtremeIndexTask task = new ExtremeIndexTask(array, start, end, true);
+        pool.invoke(task);
+        return task.index;
+    }
+
+    // Sorts contiguous blocks in parallel, one sorter per block, then k-way merges the sorted blocks.
+    // The call is one SortEvent under this sorter's name; the block sorters run untraced.
+    public void sortChunked(int[] array) {
+        InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean enableMetrics = isMetricsEnabled();
+
+        if (enableMetrics) {
+            beginMetrics();
+        }
+
+        int n = array.length;
+        int blockCount = Math.min(parallelism, Math.max(1, n / sequentialCutoff));
+        if (n <= 1 || blockCount == 1) {
+            SelectionSort sorter = newBlockSorter(enableMetrics);
+            sorter.sortUntraced(array);
+            if (enableMetrics) {
+                getMetrics().merge(sorter.getMetrics());
+                endMetrics();
+            }
+            endTelemetry(event, array, enableMetrics);
+            return;
+        }
+
+        int[] bounds = new int[blockCount + 1];
+        for (int b = 0; b <= blockCount; b++) {
+            bounds[b] = (int) ((long) n * b / blockCount);
+        }
+
+        List<BlockSortTask> tasks = new ArrayList<>(blockCount);
+        for (int b = 0; b < blockCount; b++) {
+            tasks.add(new BlockSortTask(array, bounds[b], bounds[b + 1], newBlockSorter(enableMetrics)));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        if (enableMetrics) {
+            for (BlockSortTask task : tasks) {
+                getMetrics().merge(task.sorter.getMetrics());
+            }
+        }
+
+        long mergeComparisons = mergeBlocks(array, bounds);
+
+        if (enableMetrics) {
+            SortingMetrics metrics = getMetrics();
+            metrics.incrementComparisons(mergeComparisons);
+            metrics.incrementArrayAccess(2 * mergeComparisons + 2L * n);
+            metrics.incrementMemoryAllocations(2L * n * Integer.BYTES); // block copies plus the merge buffer
+            endMetrics();
+        }
+        endTelemetry(event, array, enableMetrics);
+    }
+
+    private SelectionSort newBlockSorter(boolean enableMetrics) {
+        SelectionSort sorter = new SelectionSort(enableMetrics);
+        sorter.setStrategy(getStrategy());
+        sorter.setStrategyThreshold(getStrategyThreshold());
+        return sorter;
+    }
+
+    // Merges the sorted blocks [bounds[b], bounds[b + 1]) through a primitive min-heap of block ids.
+    // Returns the number of comparisons made.
+    private static long mergeBlocks(int[] array, int[] bounds) {
+        int blockCount = bounds.length - 1;
+        int[] positions = new int[blockCount];
+        int[] heap = new int[blockCount];
+        int heapSize = 0;
+        long comparisons = 0;
+
+        for (int b = 0; b < blockCount; b++) {
+            positions[b] = bounds[b];
+            if (bounds[b] < bounds[b + 1]) {
+                heap[heapSize++] = b;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            comparisons += siftDown(heap, i, heapSize, array, positions);
+        }
+
+        int[] merged = new int[array.length];
+        for (int k = 0; k < merged.length; k++) {
+            int block = heap[0];
+            merged[k] = array[positions[block]++];
+
+            if (positions[block] == bounds[block + 1]) {
+                heap[0] = heap[--heapSize];
+            }
+            if (heapSize > 0) {
+                comparisons += siftDown(heap, 0, heapSize, array, positions);
+            }
+        }
+
+        System.arraycopy(merged, 0, array, 0, merged.length);
+        return comparisons;
+    }
+
+    private static long siftDown(int[] heap, int root, int size, int[] array, int[] positions) {
+        long comparisons = 0;
+        int parent = root;
+        int child = 2 * parent + 1;
+
+        while (child < size) {
+            if (child + 1 < size) {
+                comparisons++;
+                if (headOf(heap[child + 1], array, positions) < headOf(heap[child], array, positions)) {
+                    child++;
+                }
+            }
+            comparisons++;
+            if (headOf(heap[child], array, positions) >= headOf(heap[parent], array, positions)) {
+                break;
+            }
+            int temp = heap[parent];
+            heap[parent] = heap[child];
+            heap[child] = temp;
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        return comparisons;
+    }
+
+    private static int headOf(int block, int[] array, int[] positions) {
+        return array[positions[block]];
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Selection Sort";
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelSelectionSort [Time: O(n²/p), Space: O(1) scan / O(n) chunked, Stable: No, "
+                + "In-place: Scan only, Parallelism: " + parallelism + "]";
+    }
+
+    private final class ExtremeIndexTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int start;
+        private final int end;
+        private final boolean maximum;
+        private int index;
+
+        ExtremeIndexTask(int[] array, int start, int end, boolean maximum) {
+            this.array = array;
+            this.start = start;
+            this.end = end;
+            this.maximum = maximum;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= sequentialCutoff) {
+                index = maximum
+                        ? ParallelSelectionSort.super.findMaximumIndex(array, start, end)
+                        : ParallelSelectionSort.super.findMinimumIndex(array, start, end);
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            ExtremeIndexTask left = new ExtremeIndexTask(array, start, middle, maximum);
+            ExtremeIndexTask right = new ExtremeIndexTask(array, middle, end, maximum);
+            right.fork();
+            left.compute();
+            right.join();
+
+            // The left chunk wins ties, which keeps the first-occurrence index of the sequential scan.
+            boolean rightWins = maximum
+                    ? array[right.index] > array[left.index]
+                    : array[right.index] < array[left.index];
+            index = rightWins ? right.index : left.index;
+        }
+    }
+
+    private static final class BlockSortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int start;
+        private final int end;
+        private final SelectionSort sorter;
+
+        BlockSortTask(int[] array, int start, int end, SelectionSort sorter) {
+            this.array = array;
+            this.start = start;
+            this.end = end;
+            this.sorter = sorter;
+        }
+
+        @Override
+        protected void compute() {
+            int[] block = new int[end - start];
+            System.arraycopy(array, start, block, 0, block.length);
+            sorter.sortUntraced(block);
+            System.arraycopy(block, 0, array, start, block.length);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.sorting.algorithm;
+
+// Per-type selection kernels for the overloads of PrimitiveSelectionSort. Each kernel wraps
+// the caller's array without copying; the shared pass driver makes one virtual call per pass, and the
+// scans themselves are monomorphic loops over the primitive array.
+// double and float use the Double.compare/Float.compare total order: -0.0 before 0.0, NaN last.
+abstract class PrimitiveKernels {
+
+    abstract int length();
+
+    abstract int findMinimumIndex(int start, int end);
+
+    abstract int findMaximumIndex(int start, int end);
+
+    abstract void swap(int i, int j);
+
+    abstract boolean isSorted(int start, int end);
+
+    static PrimitiveKernels of(long[] array) {
+        return new LongKernel(array);
+    }
+
+    static PrimitiveKernels of(double[] array) {
+        return new DoubleKernel(array);
+    }
+
+    static PrimitiveKernels of(float[] array) {
+        return new FloatKernel(array);
+    }
+
+    static PrimitiveKernels of(short[] array) {
+        return new ShortKernel(array);
+    }
+
+    static PrimitiveKernels of(char[] array) {
+        return new CharKernel(array);
+    }
+
+    static PrimitiveKernels of(byte[] array) {
+        return new ByteKernel(array);
+    }
+
+    private static final class LongKernel extends PrimitiveKernels {
+
+        private final long[] array;
+
+        LongKernel(long[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            long min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] < min) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            long max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] > max) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            long temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (array[i] > array[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class DoubleKernel extends PrimitiveKernels {
+
+        private final double[] array;
+
+        DoubleKernel(double[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            double min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (Double.compare(array[j], min) < 0) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            double max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (Double.compare(array[j], max) > 0) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            double temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (Double.compare(array[i], array[i + 1]) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class FloatKernel extends PrimitiveKernels {
+
+        private final float[] array;
+
+        FloatKernel(float[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            float min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (Float.compare(array[j], min) < 0) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            float max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (Float.compare(array[j], max) > 0) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            float temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (Float.compare(array[i], array[i + 1]) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ShortKernel extends PrimitiveKernels {
+
+        private final short[] array;
+
+        ShortKernel(short[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            short min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] < min) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            short max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] > max) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            short temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (array[i] > array[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class CharKernel extends PrimitiveKernels {
+
+        private final char[] array;
+
+        CharKernel(char[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            char min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] < min) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            char max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] > max) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            char temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (array[i] > array[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ByteKernel extends PrimitiveKernels {
+
+        private final byte[] array;
+
+        ByteKernel(byte[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        int findMinimumIndex(int start, int end) {
+            int minIndex = start;
+            byte min = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] < min) {
+                    min = array[j];
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        @Override
+        int findMaximumIndex(int start, int end) {
+            int maxIndex = start;
+            byte max = array[start];
+            for (int j = start + 1; j < end; j++) {
+                if (array[j] > max) {
+                    max = array[j];
+                    maxIndex = j;
+                }
+            }
+            return maxIndex;
+        }
+
+        @Override
+        void swap(int i, int j) {
+            byte temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+
+        @Override
+        boolean isSorted(int start, int end) {
+            for (int i = start; i < end - 1; i++) {
+                if (array[i] > array[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortEvent;
+import com.sorting.metrics.SortingTelemetry;
+import com.sorting.validation.InputValidator;
+
+// SelectionSort with sort, sortOptimized and sortDescending overloads for long, double, float, short,
+// char and byte arrays. The arrays are sorted in place without boxing or copying, with the same
+// SortingMetrics instrumentation and SortEvent telemetry as the int kernels. Kept out of SelectionSort
+// so that calls such as sort(null) on the int API stay unambiguous.
+public class PrimitiveSelectionSort extends SelectionSort {
+
+    public PrimitiveSelectionSort() {
+        super();
+    }
+
+    public PrimitiveSelectionSort(boolean enableMetrics) {
+        super(enableMetrics);
+    }
+
+    public void sort(long[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(long[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(long[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    public void sort(double[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(double[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(double[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    public void sort(float[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(float[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(float[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    public void sort(short[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(short[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(short[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    public void sort(char[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(char[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(char[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    public void sort(byte[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, false);
+    }
+
+    public void sortOptimized(byte[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), false, true);
+    }
+
+    public void sortDescending(byte[] array) {
+        InputValidator.validateArray(array);
+        sortPrimitive(PrimitiveKernels.of(array), true, false);
+    }
+
+    // Pass driver shared by the long, double, float, short, char and byte overloads; counts match the int kernels.
+    private void sortPrimitive(PrimitiveKernels kernel, boolean descending, boolean optimized) {
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrumented = isMetricsEnabled();
+        int n = kernel.length();
+
+        if (instrumented) {
+            beginMetrics();
+        }
+        for (int i = 0; i < n - 1; i++) {
+            int index = descending ? kernel.findMaximumIndex(i, n) : kernel.findMinimumIndex(i, n);
+            if (instrumented) {
+                recordScan(i, n);
+            }
+            if (optimized && index == i && kernel.isSorted(i, n)) {
+                break;
+            }
+            if (index != i) {
+                kernel.swap(i, index);
+                if (instrumented) {
+                    recordSwap();
+                }
+            }
+            if (instrumented) {
+                getMetrics().incrementIterations();
+            }
+        }
+        if (instrumented) {
+            endMetrics();
+        }
+        endTelemetry(event, n, instrumented);
+    }
+}
@@ -0,0 +1,26 @@
+package com.sorting.algorithm;
+
+// SelectionSort with RangeSortStrategy as its engine: arrays longer than the threshold go to counting or
+// radix sort by value range, shorter ones keep the selection scan and sorting networks.
+public class RangeSelectionSort extends SelectionSort {
+
+    public RangeSelectionSort() {
+        this(true);
+    }
+
+    public RangeSelectionSort(boolean enableMetrics) {
+        super(enableMetrics);
+        setStrategy(new RangeSortStrategy());
+        setStrategyThreshold(TuningProfile.current().rangeThreshold());
+    }
+
+    @Override
+    public String getName() {
+        return "Counting/Radix Sort";
+    }
+
+    @Override
+    public String toString() {
+        return "RangeSelectionSort [Time: O(n + k) / O(n·d), Space: O(k) / O(n), Stable: Yes, In-place: No]";
+    }
+}
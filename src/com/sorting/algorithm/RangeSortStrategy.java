@@ -0,0 +1,164 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+
+import java.util.Arrays;
+
+// Non-comparison engine chosen by value range. One pass finds min and max; ranges up to
+// COUNTING_RANGE_FACTOR * n + COUNTING_RANGE_SLACK use a counting sort over (value - min), wider ranges an
+// LSD radix sort on 8-bit digits of (value - min) that skips digits the range does not need.
+// Plug it in with SelectionSort.setStrategy; arrays at or below the strategy threshold keep the linear
+// selection scan, which is cheaper than either engine's setup for tiny n.
+// The radix scratch buffer is kept per thread and reused, so steady-state sorts allocate only the
+// 1 KB digit histogram; memoryAllocations reports the bytes each call actually allocated.
+public class RangeSortStrategy implements SelectionStrategy {
+
+    public static final int COUNTING_RANGE_FACTOR = 2;
+    public static final int COUNTING_RANGE_SLACK = 1 << 10;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private final ThreadLocal<int[]> scratch = ThreadLocal.withInitial(() -> new int[0]);
+
+    @Override
+    public void sort(int[] array, boolean descending) {
+        sort(array, descending, null);
+    }
+
+    @Override
+    public void sort(int[] array, boolean descending, SortingMetrics metrics) {
+        int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        int min = array[0];
+        int max = array[0];
+        for (int i = 1; i < n; i++) {
+            int value = array[i];
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+
+        long range = (long) max - min + 1;
+        if (metrics != null) {
+            metrics.incrementArrayAccess(n);
+        }
+
+        if (range <= (long) COUNTING_RANGE_FACTOR * n + COUNTING_RANGE_SLACK) {
+            countingSort(array, min, (int) range, descending, metrics);
+        } else {
+            radixSort(array, min, range, metrics);
+            if (descending) {
+                reverse(array);
+                if (metrics != null) {
+                    metrics.incrementSwaps(n / 2);
+                    metrics.incrementArrayAccess(4L * (n / 2));
+                }
+            }
+        }
+    }
+
+    private static void countingSort(int[] array, int min, int range, boolean descending, SortingMetrics metrics) {
+        int[] counts = new int[range];
+        for (int value : array) {
+            counts[value - min]++;
+        }
+
+        int out = 0;
+        if (descending) {
+            for (int bucket = range - 1; bucket >= 0; bucket--) {
+                for (int c = counts[bucket]; c > 0; c--) {
+                    array[out++] = bucket + min;
+                }
+            }
+        } else {
+            for (int bucket = 0; bucket < range; bucket++) {
+                for (int c = counts[bucket]; c > 0; c--) {
+                    array[out++] = bucket + min;
+                }
+            }
+        }
+
+        if (metrics != null) {
+            metrics.setMode(SortMode.COUNTING);
+            metrics.incrementArrayAccess(2L * array.length + range);
+            metrics.incrementIterations(2);
+            metrics.incrementMemoryAllocations((long) range * Integer.BYTES);
+        }
+    }
+
+    // Keys are value - min, which fits in an unsigned int, so only the digits below the range's top bit
+    // need passes. Each pass is stable, alternating between the array and the scratch buffer.
+    private void radixSort(int[] array, int min, long range, SortingMetrics metrics) {
+        int n = array.length;
+        int keyBits = 64 - Long.numberOfLeadingZeros(range - 1);
+        int passes = (keyBits + RADIX_BITS - 1) / RADIX_BITS;
+
+        long allocated = 0;
+        int[] buffer = scratch.get();
+        if (buffer.length < n) {
+            buffer = new int[n];
+            scratch.set(buffer);
+            allocated += (long) n * Integer.BYTES;
+        }
+        int[] counts = new int[RADIX];
+        allocated += RADIX * Integer.BYTES;
+
+        int[] source = array;
+        int[] target = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[((source[i] - min) >>> shift) & (RADIX - 1)]++;
+            }
+            int total = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int value = source[i];
+                target[counts[((value - min) >>> shift) & (RADIX - 1)]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+
+        if (metrics != null) {
+            metrics.setMode(SortMode.RADIX);
+            metrics.incrementArrayAccess(3L * n * passes + (source != array ? 2L * n : 0));
+            metrics.incrementIterations(passes);
+            metrics.incrementMemoryAllocations(allocated);
+        }
+    }
+
+    private static void reverse(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Counting/Radix by range";
+    }
+
+    @Override
+    public String toString() {
+        return "RangeSortStrategy [Time: O(n + k) counting / O(n·d) radix, Space: O(k) / O(n), Stable: Yes]";
+    }
+}
@@ -1,13 +1,22 @@
 package com.sorting.algorithm;
 import java.util.Arrays;
+import com.sorting.metrics.SortEvent;
+import com.sorting.metrics.SortMode;
 import com.sorting.metrics.SortingMetrics;
+import com.sorting.metrics.SortingTelemetry;
 import com.sorting.validation.InputValidator;
 
 
-public class SelectionSort {
+public class SelectionSort implements SortAlgorithm {
+
+    public static final int DEFAULT_STRATEGY_THRESHOLD = 50_000;
 
     private SortingMetrics metrics;
     private boolean enableMetrics;
+    private SelectionStrategy strategy = new HeapSelectionStrategy();
+    private int strategyThreshold = DEFAULT_STRATEGY_THRESHOLD;
+    // Input with at most one descent per this many elements counts as nearly sorted.
+    private int insertionDescentRatio = TuningProfile.DEFAULT_INSERTION_DESCENT_RATIO;
 
     public SelectionSort() {
         this (true);
@@ -18,174 +27,688 @@ public class SelectionSort {
         this.metrics = enableMetrics ? new SortingMetrics () : null;
     }
 
+    // Pass a ConcurrentSortingMetrics to share one sorter across threads.
+    public SelectionSort(SortingMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.enableMetrics = true;
+        this.metrics = metrics;
+    }
+
+    // Plain sorters keep the fixed defaults, so "Selection Sort" and its exact counts mean the same thing on
+    // every machine. tuned() is the dispatching entry point that takes the per-machine crossovers.
+    public static SelectionSort tuned() {
+        return tuned(true);
+    }
+
+    public static SelectionSort tuned(boolean enableMetrics) {
+        SelectionSort sorter = new SelectionSort(enableMetrics);
+        sorter.applyProfile(TuningProfile.current());
+        return sorter;
+    }
+
+    public void applyProfile(TuningProfile profile) {
+        setStrategyThreshold(profile.strategyThreshold());
+        setInsertionDescentRatio(profile.insertionDescentRatio());
+    }
+
+    @Override
     public void sort(int[] array) {
-        InputValidator.validateArray (array);
+        InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrument = sortUntraced(array);
+        endTelemetry(event, array, instrument);
+    }
 
-        if (enableMetrics) {
-            metrics.reset ();
-            metrics.startTiming ();
+    // sort() without its SortEvent, for pieces of a call that is traced as a whole (ParallelSelectionSort
+    // blocks). Returns whether the run was instrumented.
+    boolean sortUntraced(int[] array) {
+        boolean instrument = instrumentRun(array);
+        if (!delegateToStrategy(array, false, instrument)) {
+            if (instrument) {
+                beginMetrics();
+                sortKernelInstrumented(array);
+                endMetrics();
+            } else {
+                sortKernel(array);
+            }
         }
+        return instrument;
+    }
 
-        int n = array.length;
+    public void sortOptimized(int[] array) {
+        InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrument = instrumentRun(array);
+        if (!sortedBeforeDelegating(array, instrument) && !delegateToStrategy(array, false, instrument)) {
+            if (instrument) {
+                beginMetrics();
+                sortOptimizedInstrumented(array);
+                endMetrics();
+            } else {
+                sortOptimizedKernel(array);
+            }
+        }
+        endTelemetry(event, array, instrument);
+    }
 
-        if (n <= 1) {
-            if (enableMetrics) {
-                metrics.stopTiming ();
+    @Override
+    public void sortDescending(int[] array) {
+        InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrument = instrumentRun(array);
+        if (!delegateToStrategy(array, true, instrument)) {
+            if (instrument) {
+                beginMetrics();
+                sortDescendingInstrumented(array);
+                endMetrics();
+            } else {
+                sortDescendingKernel(array);
             }
-            return;
         }
+        endTelemetry(event, array, instrument);
+    }
 
-        for (int i = 0; i < n - 1; i++) {
-            int minIndex = findMinimumIndex (array, i, n);
+    // Presortedness front end. One linear pass counts descents (adjacent inversions): none means the input
+    // is already sorted, all strict means it is one descending run and is reversed in place, and few means
+    // it goes to insertion sort, which costs O(n + inversions). Insertion has a shift budget priced against
+    // the engine it replaces, so input with few descents but many long-distance inversions falls back.
+    public void sortAdaptive(int[] array) {
+        InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrument = instrumentRun(array);
+        int n = array.length;
 
-            if (minIndex != i) {
-                swap (array, i, minIndex);
+        long phaseStart = 0;
+        if (instrument) {
+            beginMetrics();
+            phaseStart = System.nanoTime();
+        }
+
+        int descents = 0;
+        boolean strictlyDescending = true;
+        for (int i = 0; i < n - 1; i++) {
+            if (array[i] > array[i + 1]) {
+                descents++;
+            } else {
+                strictlyDescending = false;
             }
+        }
+
+        if (instrument) {
+            long now = System.nanoTime();
+            metrics.recordPhase("Presortedness scan", now - phaseStart);
+            long comparisons = Math.max(0, n - 1);
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementArrayAccess(2 * comparisons);
+            phaseStart = now;
+        }
 
-            if (enableMetrics) {
-                metrics.incrementIterations ();
+        String phase;
+        if (descents == 0) {
+            phase = "Already sorted";
+            if (instrument) {
+                metrics.setMode(SortMode.ADAPTIVE_PRESORTED);
             }
+        } else if (strictlyDescending) {
+            phase = "Reverse";
+            reverse(array);
+            if (instrument) {
+                metrics.setMode(SortMode.ADAPTIVE_REVERSED);
+                metrics.incrementSwaps(n / 2);
+                metrics.incrementArrayAccess(4L * (n / 2));
+            }
+        } else if (descents <= Math.max(1, n / insertionDescentRatio)
+                && insertionSort(array, insertionShiftBudget(n), instrument)) {
+            phase = "Insertion";
+            if (instrument) {
+                metrics.setMode(SortMode.ADAPTIVE_INSERTION);
+            }
+        } else {
+            phase = "Selection";
+            sortWithoutRun(array, instrument);
         }
 
-        if (enableMetrics) {
-            metrics.stopTiming ();
+        if (instrument) {
+            metrics.recordPhase(phase, System.nanoTime() - phaseStart);
+            endMetrics();
         }
+        endTelemetry(event, array, instrument);
     }
 
-    private int findMinimumIndex(int[] array, int start, int end) {
-        int minIndex = start;
-
-        if (enableMetrics) {
-            metrics.incrementArrayAccess(); // Reading array[minIndex]
+    // About n log n shifts when the heap strategy would take over, otherwise half a selection sort's comparisons.
+    private long insertionShiftBudget(int n) {
+        if (strategy != null && n > strategyThreshold) {
+            return (long) n * (32 - Integer.numberOfLeadingZeros(n));
         }
+        return (long) n * n / 4;
+    }
 
-        for (int j = start + 1; j < end; j++) {
-            if (enableMetrics) {
-                metrics.incrementComparisons();
-                metrics.incrementArrayAccess(2); // Reading array[j] and array[minIndex]
+    // Returns false, leaving the array a partially sorted permutation, once the shift budget is spent.
+    private boolean insertionSort(int[] array, long shiftBudget, boolean instrument) {
+        long comparisons = 0;
+        long shifts = 0;
+        long moved = 0;
+        boolean completed = true;
+
+        for (int i = 1; i < array.length; i++) {
+            int value = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > value) {
+                array[j + 1] = array[j];
+                j--;
+                shifts++;
             }
-
-            if (array[j] < array[minIndex]) {
-                minIndex = j;
+            comparisons += (i - 1 - j) + (j >= 0 ? 1 : 0);
+            if (j + 1 != i) {
+                array[j + 1] = value;
+                moved++;
+            }
+            if (shifts > shiftBudget) {
+                completed = false;
+                break;
             }
         }
 
-        return minIndex;
+        if (instrument) {
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementSwaps(moved);
+            metrics.incrementArrayAccess(2 * comparisons + 2 * shifts + 2 * moved);
+        }
+        return completed;
     }
 
-    private void swap(int[] array, int i, int j) {
-        if (enableMetrics) {
-            metrics.incrementSwaps();
-            metrics.incrementArrayAccess(4); // 2 reads + 2 writes
+    // The full engine for sortAdaptive, inside the run it has already begun.
+    private void sortWithoutRun(int[] array, boolean instrument) {
+        if (strategy != null && array.length > strategyThreshold) {
+            if (instrument) {
+                strategy.sort(array, false, metrics);
+            } else {
+                strategy.sort(array, false);
+            }
+        } else if (instrument) {
+            metrics.setMode(SortMode.STANDARD);
+            sortKernelInstrumented(array);
+        } else {
+            sortKernel(array);
         }
+    }
 
-        int temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
+    private static void reverse(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            swap(array, i, j);
+        }
     }
 
-    public void sortOptimized(int[] array) {
+    public void sortBidirectional(int[] array) {
         InputValidator.validateArray(array);
+        SortEvent event = SortingTelemetry.begin();
+        boolean instrument = instrumentRun(array);
+
+        if (instrument) {
+            beginMetrics();
+            metrics.setMode(SortMode.BIDIRECTIONAL);
+            sortBidirectionalInstrumented(array);
+            endMetrics();
+        } else {
+            sortBidirectionalKernel(array);
+        }
+        endTelemetry(event, array, instrument);
+    }
 
-        if (enableMetrics) {
-            metrics.reset();
-            metrics.startTiming();
+    // Moves the k smallest elements, ascending, into array[0..k) with exactly k selection passes.
+    public void selectBottomK(int[] array, int k) {
+        InputValidator.validateSelectionCount(array, k);
+        selectPartial(array, k, false);
+    }
+
+    // Moves the k largest elements, descending, into array[0..k) with exactly k selection passes.
+    public void selectTopK(int[] array, int k) {
+        InputValidator.validateSelectionCount(array, k);
+        selectPartial(array, k, true);
+    }
+
+    // Same result as selectBottomK in one streaming pass over a k-element max-heap kept in array[0..k):
+    // O(n log k) time, O(1) space. Suited to large n and small k.
+    public void selectBottomKHeap(int[] array, int k) {
+        InputValidator.validateSelectionCount(array, k);
+        selectPartialHeap(array, k, false);
+    }
+
+    // Same result as selectTopK using a k-element min-heap kept in array[0..k).
+    public void selectTopKHeap(int[] array, int k) {
+        InputValidator.validateSelectionCount(array, k);
+        selectPartialHeap(array, k, true);
+    }
+
+    // Places the k-th smallest value (0-based) at index k with smaller-or-equal values before it and
+    // greater-or-equal values after it. Expected O(n), worst case O(n) through the median-of-medians fallback.
+    public int nthElement(int[] array, int k) {
+        InputValidator.validateIndex(array, k);
+        boolean instrument = instrumentRun(array);
+
+        if (instrument) {
+            beginMetrics();
+            metrics.setMode(SortMode.NTH_ELEMENT);
         }
 
+        IntroSelect select = new IntroSelect();
+        select.select(array, k);
+
+        if (instrument) {
+            metrics.incrementComparisons(select.comparisons);
+            metrics.incrementSwaps(select.swaps);
+            metrics.incrementArrayAccess(2 * select.comparisons + 4 * select.swaps);
+            endMetrics();
+        }
+        return array[k];
+    }
+
+    private void selectPartial(int[] array, int k, boolean descending) {
         int n = array.length;
+        int passes = Math.min(k, n - 1);
+        boolean instrument = instrumentRun(array);
+
+        if (instrument) {
+            beginMetrics();
+            metrics.setMode(SortMode.PARTIAL);
+        }
+        for (int i = 0; i < passes; i++) {
+            int index = descending ? findMaximumIndex(array, i, n) : findMinimumIndex(array, i, n);
+            if (index != i) {
+                swap(array, i, index);
+            }
+            if (instrument) {
+                recordScan(i, n);
+                if (index != i) {
+                    recordSwap();
+                }
+                metrics.incrementIterations();
+            }
+        }
+        if (instrument) {
+            endMetrics();
+        }
+    }
 
-        if (n <= 1) {
-            if (enableMetrics) {
-                metrics.stopTiming();
+    private void selectPartialHeap(int[] array, int k, boolean descending) {
+        boolean instrument = instrumentRun(array);
+        if (instrument) {
+            beginMetrics();
+            metrics.setMode(SortMode.PARTIAL_HEAP);
+        }
+        if (k == 0) {
+            if (instrument) {
+                endMetrics();
             }
             return;
         }
 
+        // Keeping the k best so far means evicting the worst: a max-heap for the smallest k, a min-heap for the largest k.
+        boolean minHeap = descending;
+        long comparisons = 0;
+        long swaps = 0;
+
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            long counts = HeapSelectionStrategy.siftDownCounted(array, i, k, minHeap);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+        }
+
+        for (int j = k; j < array.length; j++) {
+            comparisons++;
+            boolean better = descending ? array[j] > array[0] : array[j] < array[0];
+            if (better) {
+                swap(array, 0, j);
+                swaps++;
+                long counts = HeapSelectionStrategy.siftDownCounted(array, 0, k, minHeap);
+                comparisons += counts >>> 32;
+                swaps += counts & 0xFFFFFFFFL;
+            }
+        }
+
+        // Repeatedly moving the heap root behind the shrinking heap leaves the prefix in order.
+        for (int end = k - 1; end > 0; end--) {
+            swap(array, 0, end);
+            swaps++;
+            long counts = HeapSelectionStrategy.siftDownCounted(array, 0, end, minHeap);
+            comparisons += counts >>> 32;
+            swaps += counts & 0xFFFFFFFFL;
+        }
+
+        if (instrument) {
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementSwaps(swaps);
+            metrics.incrementArrayAccess(2 * comparisons + 4 * swaps);
+            metrics.incrementIterations(array.length - k);
+            endMetrics();
+        }
+    }
+
+    // The counted twin of sortKernel. Sampled calls stand in for unsampled ones, so under sampling metrics
+    // tiny arrays take the same sorting network; exact metrics keep the selection counts.
+    private void sortKernelInstrumented(int[] array) {
+        if (array.length <= SortingNetworks.MAX_SIZE && metrics.isSampling()) {
+            sortNetworkInstrumented(array);
+        } else {
+            sortInstrumented(array);
+        }
+    }
+
+    private void sortNetworkInstrumented(int[] array) {
+        metrics.setMode(SortMode.NETWORK);
+        long swaps = SortingNetworks.sortCounted(array);
+        long comparisons = SortingNetworks.comparatorCount(array.length);
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementSwaps(swaps);
+        metrics.incrementArrayAccess(2 * comparisons + 2 * swaps);
+        metrics.incrementIterations();
+    }
+
+    // Uninstrumented kernels: no metrics state is read inside the passes.
+
+    private void sortKernel(int[] array) {
+        int n = array.length;
+        if (n <= SortingNetworks.MAX_SIZE) {
+            // Tiny arrays cost more in loop overhead than in comparisons; a fixed network has neither.
+            SortingNetworks.sort(array);
+            return;
+        }
         for (int i = 0; i < n - 1; i++) {
             int minIndex = findMinimumIndex(array, i, n);
+            if (minIndex != i) {
+                swap(array, i, minIndex);
+            }
+        }
+    }
 
+    private void sortOptimizedKernel(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = findMinimumIndex(array, i, n);
             if (minIndex == i && isSubArraySorted(array, i, n)) {
                 break;
             }
-
             if (minIndex != i) {
                 swap(array, i, minIndex);
             }
-
-            if (enableMetrics) {
-                metrics.incrementIterations();
-            }
         }
+    }
 
-        if (enableMetrics) {
-            metrics.stopTiming();
+    private void sortDescendingKernel(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int maxIndex = findMaximumIndex(array, i, n);
+            if (maxIndex != i) {
+                swap(array, i, maxIndex);
+            }
         }
     }
 
-    private boolean isSubArraySorted(int[] array, int start, int end) {
-        for (int i = start; i < end - 1; i++) {
-            if (array[i] > array[i + 1]) {
-                return false;
+    private void sortBidirectionalKernel(int[] array) {
+        int low = 0;
+        int high = array.length - 1;
+        while (low < high) {
+            long extremes = findMinMaxIndices(array, low, high + 1);
+            int minIndex = (int) (extremes >>> 32);
+            int maxIndex = (int) extremes;
+
+            if (minIndex != low) {
+                swap(array, low, minIndex);
+                if (maxIndex == low) {
+                    maxIndex = minIndex;
+                }
+            }
+            if (maxIndex != high) {
+                swap(array, high, maxIndex);
             }
+            low++;
+            high--;
         }
-        return true;
     }
 
-    public void sortDescending(int[] array) {
-        InputValidator.validateArray(array);
+    // Instrumented kernels: the scans are the same, counts are added once per pass.
 
-        if (enableMetrics) {
-            metrics.reset();
-            metrics.startTiming();
+    private void sortInstrumented(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = findMinimumIndex(array, i, n);
+            recordScan(i, n);
+
+            if (minIndex != i) {
+                swap(array, i, minIndex);
+                recordSwap();
+            }
+            metrics.incrementIterations();
         }
+    }
 
+    private void sortOptimizedInstrumented(int[] array) {
         int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = findMinimumIndex(array, i, n);
+            recordScan(i, n);
 
-        if (n <= 1) {
-            if (enableMetrics) {
-                metrics.stopTiming();
+            if (minIndex == i && isSubArraySorted(array, i, n)) {
+                break;
             }
-            return;
+            if (minIndex != i) {
+                swap(array, i, minIndex);
+                recordSwap();
+            }
+            metrics.incrementIterations();
         }
+    }
 
+    private void sortDescendingInstrumented(int[] array) {
+        int n = array.length;
         for (int i = 0; i < n - 1; i++) {
             int maxIndex = findMaximumIndex(array, i, n);
+            recordScan(i, n);
 
             if (maxIndex != i) {
                 swap(array, i, maxIndex);
+                recordSwap();
             }
+            metrics.incrementIterations();
+        }
+    }
 
-            if (enableMetrics) {
-                metrics.incrementIterations();
+    private void sortBidirectionalInstrumented(int[] array) {
+        int low = 0;
+        int high = array.length - 1;
+        while (low < high) {
+            long extremes = findMinMaxIndices(array, low, high + 1);
+            recordPairwiseScan(low, high + 1);
+            int minIndex = (int) (extremes >>> 32);
+            int maxIndex = (int) extremes;
+
+            if (minIndex != low) {
+                swap(array, low, minIndex);
+                recordSwap();
+                if (maxIndex == low) {
+                    maxIndex = minIndex;
+                }
+            }
+            if (maxIndex != high) {
+                swap(array, high, maxIndex);
+                recordSwap();
             }
+            metrics.incrementIterations();
+            low++;
+            high--;
         }
+    }
 
-        if (enableMetrics) {
-            metrics.stopTiming();
+    protected int findMinimumIndex(int[] array, int start, int end) {
+        int minIndex = start;
+        int min = array[start];
+        for (int j = start + 1; j < end; j++) {
+            if (array[j] < min) {
+                min = array[j];
+                minIndex = j;
+            }
         }
+        return minIndex;
     }
 
-    private int findMaximumIndex(int[] array, int start, int end) {
+    protected int findMaximumIndex(int[] array, int start, int end) {
         int maxIndex = start;
+        int max = array[start];
+        for (int j = start + 1; j < end; j++) {
+            if (array[j] > max) {
+                max = array[j];
+                maxIndex = j;
+            }
+        }
+        return maxIndex;
+    }
 
-        if (enableMetrics) {
-            metrics.incrementArrayAccess();
+    // Pairwise scan: each pair is ordered with one comparison, then its smaller element is compared
+    // against the minimum and its larger element against the maximum (3 comparisons per 2 elements).
+    // Returns the minimum index in the high 32 bits and the maximum index in the low 32 bits.
+    protected long findMinMaxIndices(int[] array, int start, int end) {
+        int minIndex;
+        int maxIndex;
+        int j;
+
+        if (((end - start) & 1) == 1) {
+            minIndex = start;
+            maxIndex = start;
+            j = start + 1;
+        } else {
+            if (array[start + 1] < array[start]) {
+                minIndex = start + 1;
+                maxIndex = start;
+            } else {
+                minIndex = start;
+                maxIndex = start + 1;
+            }
+            j = start + 2;
         }
 
-        for (int j = start + 1; j < end; j++) {
-            if (enableMetrics) {
-                metrics.incrementComparisons();
-                metrics.incrementArrayAccess(2);
+        int min = array[minIndex];
+        int max = array[maxIndex];
+        for (; j < end; j += 2) {
+            int first = array[j];
+            int second = array[j + 1];
+            if (first <= second) {
+                if (first < min) {
+                    min = first;
+                    minIndex = j;
+                }
+                if (second > max) {
+                    max = second;
+                    maxIndex = j + 1;
+                }
+            } else {
+                if (second < min) {
+                    min = second;
+                    minIndex = j + 1;
+                }
+                if (first > max) {
+                    max = first;
+                    maxIndex = j;
+                }
             }
+        }
 
-            if (array[j] > array[maxIndex]) {
-                maxIndex = j;
+        return ((long) minIndex << 32) | (maxIndex & 0xFFFFFFFFL);
+    }
+
+    private boolean isSubArraySorted(int[] array, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            if (array[i] > array[i + 1]) {
+                return false;
             }
         }
+        return true;
+    }
 
-        return maxIndex;
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    // Whether this call records metrics: always with plain SortingMetrics, a sampled subset with
+    // SampledSortingMetrics. Skipped calls take the uninstrumented kernels.
+    private boolean instrumentRun(int[] array) {
+        return enableMetrics && metrics.shouldSample(array.length);
+    }
+
+    // sortOptimized's early exit above the threshold, where the strategy would spend Θ(n log n) even on
+    // sorted input: one presortedness pass before delegating. A failed check stops at the first descent and
+    // is not part of the strategy's run. Below the threshold the selection loop exits on its own.
+    private boolean sortedBeforeDelegating(int[] array, boolean instrument) {
+        if (strategy == null || array.length <= strategyThreshold || !isSubArraySorted(array, 0, array.length)) {
+            return false;
+        }
+        if (instrument) {
+            beginMetrics();
+            long comparisons = array.length - 1;
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementArrayAccess(2 * comparisons);
+            endMetrics();
+        }
+        return true;
+    }
+
+    // Arrays longer than the threshold go to the configured strategy instead of the linear scan.
+    private boolean delegateToStrategy(int[] array, boolean descending, boolean instrument) {
+        if (strategy == null || array.length <= strategyThreshold) {
+            return false;
+        }
+
+        if (instrument) {
+            beginMetrics();
+            strategy.sort(array, descending, metrics);
+            endMetrics();
+        } else {
+            strategy.sort(array, descending);
+        }
+        return true;
+    }
+
+    // Emits the call's SortEvent and feeds the MXBean; see SortingTelemetry.
+    void endTelemetry(SortEvent event, int[] array, boolean instrument) {
+        endTelemetry(event, array.length, instrument);
+    }
+
+    void endTelemetry(SortEvent event, int length, boolean instrument) {
+        SortingTelemetry.end(event, getName(), length, instrument ? metrics : null);
+    }
+
+    protected void beginMetrics() {
+        metrics.beginRun();
+    }
+
+    protected void endMetrics() {
+        metrics.endRun();
+    }
+
+    // One scan over [start, end) makes end - start - 1 comparisons, each reading two elements,
+    // plus the initial read of array[start].
+    protected void recordScan(int start, int end) {
+        long comparisons = end - start - 1;
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementArrayAccess(1 + 2 * comparisons);
     }
 
+    private void recordPairwiseScan(int start, int end) {
+        long length = end - start;
+        long comparisons = (length & 1) == 1 ? 3 * (length - 1) / 2 : 3 * length / 2 - 2;
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementArrayAccess(length + 2 * comparisons);
+    }
+
+    protected void recordSwap() {
+        metrics.incrementSwaps();
+        metrics.incrementArrayAccess(4); // 2 reads + 2 writes
+    }
+
+    @Override
     public SortingMetrics getMetrics() {
         if (!enableMetrics) {
             throw new IllegalStateException("Metrics collection is disabled");
@@ -193,12 +716,43 @@ public class SelectionSort {
         return metrics;
     }
 
+    public boolean isMetricsEnabled() {
+        return enableMetrics;
+    }
+
     public void resetMetrics() {
         if (enableMetrics) {
             metrics.reset();
         }
     }
 
+    public SelectionStrategy getStrategy() {
+        return strategy;
+    }
+
+    // A null strategy keeps every array on the linear selection scan.
+    public void setStrategy(SelectionStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public int getStrategyThreshold() {
+        return strategyThreshold;
+    }
+
+    public void setStrategyThreshold(int strategyThreshold) {
+        InputValidator.validateNonNegative(strategyThreshold, "Strategy threshold");
+        this.strategyThreshold = strategyThreshold;
+    }
+
+    public int getInsertionDescentRatio() {
+        return insertionDescentRatio;
+    }
+
+    public void setInsertionDescentRatio(int insertionDescentRatio) {
+        InputValidator.validatePositive(insertionDescentRatio, "Insertion descent ratio");
+        this.insertionDescentRatio = insertionDescentRatio;
+    }
+
     public void setMetricsEnabled(boolean enable) {
         this.enableMetrics = enable;
         if (enable && metrics == null) {
@@ -206,6 +760,11 @@ public class SelectionSort {
         }
     }
 
+    @Override
+    public String getName() {
+        return "Selection Sort";
+    }
+
     @Override
     public String toString() {
         return "SelectionSort [Time: O(n²), Space: O(1), Stable: No, In-place: Yes]";
@@ -0,0 +1,13 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortingMetrics;
+
+public interface SelectionStrategy {
+
+    void sort(int[] array, boolean descending);
+
+    // Same result as sort(array, descending), counting comparisons, swaps and array accesses into metrics.
+    void sort(int[] array, boolean descending, SortingMetrics metrics);
+
+    String getName();
+}
@@ -0,0 +1,168 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+
+// Sorts arrays of up to 16 elements with size-specialized sorting networks and falls back to SelectionSort
+// above that. sortAll buckets a batch by length and runs each bucket of tiny arrays through its network in
+// lanes: a block of same-sized arrays is transposed into a column buffer so every compare-exchange is one
+// contiguous min/max loop across the block, which C2 can vectorize.
+public class SmallArraySorter {
+
+    public static final int MAX_NETWORK_SIZE = SortingNetworks.MAX_SIZE;
+
+    private static final int LANES = 64;
+
+    private final SortingMetrics metrics;
+    private final boolean enableMetrics;
+    private final SelectionSort fallback;
+    private final int[] columns = new int[MAX_NETWORK_SIZE * LANES];
+
+    public SmallArraySorter() {
+        this(true);
+    }
+
+    public SmallArraySorter(boolean enableMetrics) {
+        this.enableMetrics = enableMetrics;
+        this.metrics = enableMetrics ? new SortingMetrics() : null;
+        this.fallback = new SelectionSort(enableMetrics);
+    }
+
+    public static int comparatorCount(int arraySize) {
+        return arraySize <= MAX_NETWORK_SIZE ? SortingNetworks.comparatorCount(arraySize) : -1;
+    }
+
+    public void sort(int[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        if (enableMetrics) {
+            metrics.beginRun();
+        }
+
+        if (array.length > MAX_NETWORK_SIZE) {
+            fallback.sort(array);
+            if (enableMetrics) {
+                metrics.merge(fallback.getMetrics());
+                metrics.setMode(fallback.getMetrics().getMode());
+            }
+        } else if (enableMetrics) {
+            metrics.setMode(SortMode.NETWORK);
+            recordNetwork(array.length, 1, SortingNetworks.sortCounted(array));
+        } else {
+            SortingNetworks.sort(array);
+        }
+
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+    }
+
+    // Sorts every array in place. Metrics cover the whole batch as one run.
+    public void sortAll(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        for (int[] array : arrays) {
+            if (array == null) {
+                throw new IllegalArgumentException("Array cannot be null");
+            }
+        }
+
+        if (enableMetrics) {
+            metrics.beginRun();
+            metrics.setMode(SortMode.NETWORK);
+        }
+
+        // Counting sort of array indices by length: buckets 0..16 for networks, one more for the rest.
+        int[] bucketStart = new int[MAX_NETWORK_SIZE + 3];
+        for (int[] array : arrays) {
+            bucketStart[Math.min(array.length, MAX_NETWORK_SIZE + 1) + 1]++;
+        }
+        for (int b = 1; b < bucketStart.length; b++) {
+            bucketStart[b] += bucketStart[b - 1];
+        }
+        int[] order = new int[arrays.length];
+        int[] next = bucketStart.clone();
+        for (int i = 0; i < arrays.length; i++) {
+            order[next[Math.min(arrays[i].length, MAX_NETWORK_SIZE + 1)]++] = i;
+        }
+
+        for (int n = 2; n <= MAX_NETWORK_SIZE; n++) {
+            for (int from = bucketStart[n]; from < bucketStart[n + 1]; from += LANES) {
+                sortLanes(arrays, order, from, Math.min(from + LANES, bucketStart[n + 1]), n);
+            }
+        }
+        for (int i = bucketStart[MAX_NETWORK_SIZE + 1]; i < arrays.length; i++) {
+            fallback.sort(arrays[order[i]]);
+            if (enableMetrics) {
+                metrics.merge(fallback.getMetrics());
+            }
+        }
+
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+    }
+
+    private void sortLanes(int[][] arrays, int[] order, int from, int to, int n) {
+        int count = to - from;
+        for (int lane = 0; lane < count; lane++) {
+            int[] array = arrays[order[from + lane]];
+            for (int i = 0; i < n; i++) {
+                columns[i * LANES + lane] = array[i];
+            }
+        }
+
+        int[] pairs = SortingNetworks.pairs(n);
+        long swaps = 0;
+        for (int p = 0; p < pairs.length; p += 2) {
+            int lo = pairs[p] * LANES;
+            int hi = pairs[p + 1] * LANES;
+            if (enableMetrics) {
+                for (int lane = 0; lane < count; lane++) {
+                    swaps += columns[lo + lane] > columns[hi + lane] ? 1 : 0;
+                }
+            }
+            for (int lane = 0; lane < count; lane++) {
+                int a = columns[lo + lane];
+                int b = columns[hi + lane];
+                columns[lo + lane] = Math.min(a, b);
+                columns[hi + lane] = Math.max(a, b);
+            }
+        }
+
+        for (int lane = 0; lane < count; lane++) {
+            int[] array = arrays[order[from + lane]];
+            for (int i = 0; i < n; i++) {
+                array[i] = columns[i * LANES + lane];
+            }
+        }
+
+        if (enableMetrics) {
+            recordNetwork(n, count, swaps);
+        }
+    }
+
+    // Every comparator reads two elements and, when it exchanges, writes two.
+    private void recordNetwork(int n, int arrayCount, long swaps) {
+        long comparisons = (long) SortingNetworks.comparatorCount(n) * arrayCount;
+        metrics.incrementComparisons(comparisons);
+        metrics.incrementSwaps(swaps);
+        metrics.incrementArrayAccess(2 * comparisons + 2 * swaps);
+        metrics.incrementIterations(arrayCount);
+    }
+
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "SmallArraySorter [Time: O(n log² n) comparators for n <= 16, Space: O(1), Stable: No, In-place: Yes]";
+    }
+}
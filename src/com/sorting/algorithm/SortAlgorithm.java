@@ -0,0 +1,24 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortingMetrics;
+
+// Service interface for int[] sorting engines. Implementations are discovered by SortAlgorithms through
+// META-INF/services/com.sorting.algorithm.SortAlgorithm and need a public no-argument constructor that
+// enables metrics, so the benchmark can read counters after every sort. Instances may own threads
+// (ParallelSelectionSort), so whoever creates one closes it.
+public interface SortAlgorithm extends AutoCloseable {
+
+    void sort(int[] array);
+
+    void sortDescending(int[] array);
+
+    // Counters of the most recent sort; throws IllegalStateException when metrics are disabled.
+    SortingMetrics getMetrics();
+
+    String getName();
+
+    // Most engines hold nothing; those owning a pool override this.
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,78 @@
+package com.sorting.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+// Registry of the SortAlgorithm providers on the class path. Names match case-insensitively and ignore
+// spaces and punctuation, so "Selection Sort", "selection-sort" and "selectionsort" are the same engine.
+// Every create call returns a fresh instance with its own metrics.
+public final class SortAlgorithms {
+
+    public static final String DEFAULT_ALGORITHM = "Selection Sort";
+
+    private static volatile Map<String, Registration> registry;
+
+    private SortAlgorithms() {
+    }
+
+    private record Registration(String name, ServiceLoader.Provider<SortAlgorithm> provider) {
+    }
+
+    public static SortAlgorithm create(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Algorithm name cannot be null or empty");
+        }
+
+        Registration registration = registry().get(normalize(name));
+        if (registration == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown algorithm '%s'. Available: %s", name, String.join(", ", names())));
+        }
+        return registration.provider().get();
+    }
+
+    public static List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Registration registration : registry().values()) {
+            names.add(registration.name());
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    public static boolean isRegistered(String name) {
+        return name != null && registry().containsKey(normalize(name));
+    }
+
+    // Providers are probed once for their names; probes holding threads are closed straight away.
+    private static Map<String, Registration> registry() {
+        Map<String, Registration> loaded = registry;
+        if (loaded != null) {
+            return loaded;
+        }
+
+        synchronized (SortAlgorithms.class) {
+            if (registry == null) {
+                Map<String, Registration> discovered = new LinkedHashMap<>();
+                ServiceLoader.load(SortAlgorithm.class).stream().forEach(provider -> {
+                    SortAlgorithm probe = provider.get();
+                    String name = probe.getName();
+                    probe.close();
+                    if (discovered.putIfAbsent(normalize(name), new Registration(name, provider)) != null) {
+                        throw new IllegalStateException("Duplicate algorithm name: " + name);
+                    }
+                });
+                registry = Collections.unmodifiableMap(discovered);
+            }
+            return registry;
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+}
@@ -0,0 +1,173 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.ConcurrentSortingMetrics;
+import com.sorting.metrics.SortingMetrics;
+import com.sorting.validation.InputValidator;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Runs many small, independent sort requests concurrently. SelectionSort instances are not thread-safe,
+// so each task borrows a private sorter (with its own metrics) from an idle stack and returns it when done;
+// the number of sorters grows to the peak concurrency, which for CPU-bound sorts is the number of carrier
+// or pool threads, rather than one per task as a ThreadLocal would give under virtual threads.
+public class SortExecutor implements AutoCloseable {
+
+    public enum Mode {
+        VIRTUAL_THREADS,
+        FIXED_POOL,
+        CALLER_RUNS
+    }
+
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final boolean enableMetrics;
+    private final ConcurrentLinkedDeque<Worker> idle = new ConcurrentLinkedDeque<>();
+    private final Queue<Worker> workers = new ConcurrentLinkedQueue<>();
+
+    public SortExecutor(Mode mode) {
+        this(mode, Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    public SortExecutor(Mode mode, int parallelism, boolean enableMetrics) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode cannot be null");
+        }
+        InputValidator.validatePositive(parallelism, "Parallelism");
+        this.mode = mode;
+        this.enableMetrics = enableMetrics;
+
+        ExecutorService virtual = mode == Mode.VIRTUAL_THREADS ? newVirtualThreadExecutor() : null;
+        this.virtualThreads = virtual != null;
+        switch (mode) {
+        case VIRTUAL_THREADS:
+            // Before Java 21 there are no virtual threads; a work-stealing pool of the same parallelism
+            // is what their scheduler would run on, so it stands in.
+            this.executor = virtual != null ? virtual : new ForkJoinPool(parallelism);
+            break;
+        case FIXED_POOL:
+            this.executor = Executors.newFixedThreadPool(parallelism);
+            break;
+        default:
+            this.executor = null;
+        }
+    }
+
+    // Resolved reflectively so the project still compiles for Java 17.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // Sorts the array in place and completes the future with it.
+    public CompletableFuture<int[]> submit(int[] array) {
+        InputValidator.validateArray(array);
+
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(sortWithWorker(array));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> sortWithWorker(array), executor);
+    }
+
+    private int[] sortWithWorker(int[] array) {
+        Worker worker = idle.pollFirst();
+        if (worker == null) {
+            worker = new Worker(enableMetrics);
+            workers.add(worker);
+        }
+        try {
+            worker.sort(array);
+        } finally {
+            idle.offerFirst(worker);
+        }
+        return array;
+    }
+
+    // Sum over every worker, elapsed time included (summed sort time, not wall time). Read it after the
+    // futures of interest have completed.
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        SortingMetrics total = new ConcurrentSortingMetrics();
+        for (Worker worker : workers) {
+            total.merge(worker.totals);
+        }
+        return total;
+    }
+
+    public int getWorkerCount() {
+        return workers.size();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isVirtualThreadBacked() {
+        return virtualThreads;
+    }
+
+    @Override
+    public void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Worker {
+
+        private final SelectionSort sorter;
+        // Accumulating metrics: their merge also adds each call's elapsed time, which SortingMetrics drops.
+        private final ConcurrentSortingMetrics totals;
+
+        private Worker(boolean enableMetrics) {
+            this.sorter = new SelectionSort(enableMetrics);
+            this.totals = enableMetrics ? new ConcurrentSortingMetrics() : null;
+        }
+
+        private void sort(int[] array) {
+            sorter.sort(array);
+            if (totals != null) {
+                totals.merge(sorter.getMetrics());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SortExecutor [Mode: " + mode + (virtualThreads ? ", virtual threads" : "")
+                + ", Workers: " + workers.size() + "]";
+    }
+}
@@ -0,0 +1,89 @@
+package com.sorting.algorithm;
+
+import java.util.Arrays;
+
+// Fixed comparator networks for 2..16 elements. Each size is Batcher's odd-even merge network for the next
+// power of two with the comparators that touch padding positions removed (padding would hold +infinity, so
+// those comparators never move anything). Compare-exchange is Math.min/Math.max, which C2 emits as
+// conditional moves, so the kernel has no data-dependent branches.
+final class SortingNetworks {
+
+    static final int MAX_SIZE = 16;
+
+    // PAIRS[n] holds the flattened (low, high) index pairs for size n.
+    private static final int[][] PAIRS = new int[MAX_SIZE + 1][];
+
+    static {
+        for (int n = 0; n <= MAX_SIZE; n++) {
+            int[] full = batcherPairs(n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1);
+            int[] pairs = new int[full.length];
+            int count = 0;
+            for (int p = 0; p < full.length; p += 2) {
+                if (full[p + 1] < n) {
+                    pairs[count++] = full[p];
+                    pairs[count++] = full[p + 1];
+                }
+            }
+            PAIRS[n] = Arrays.copyOf(pairs, count);
+        }
+    }
+
+    private SortingNetworks() {
+    }
+
+    private static int[] batcherPairs(int size) {
+        int[] pairs = new int[size * size * 2];
+        int count = 0;
+        for (int p = 1; p < size; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    for (int i = 0; i < Math.min(k, size - j - k); i++) {
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pairs[count++] = i + j;
+                            pairs[count++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, count);
+    }
+
+    static int[] pairs(int n) {
+        return PAIRS[n];
+    }
+
+    static int comparatorCount(int n) {
+        return PAIRS[n].length / 2;
+    }
+
+    static void sort(int[] array) {
+        int[] pairs = PAIRS[array.length];
+        for (int p = 0; p < pairs.length; p += 2) {
+            int lo = pairs[p];
+            int hi = pairs[p + 1];
+            int a = array[lo];
+            int b = array[hi];
+            array[lo] = Math.min(a, b);
+            array[hi] = Math.max(a, b);
+        }
+    }
+
+    // Same network, returning how many compare-exchanges actually exchanged their inputs.
+    static long sortCounted(int[] array) {
+        int[] pairs = PAIRS[array.length];
+        long swaps = 0;
+        for (int p = 0; p < pairs.length; p += 2) {
+            int lo = pairs[p];
+            int hi = pairs[p + 1];
+            int a = array[lo];
+            int b = array[hi];
+            if (a > b) {
+                array[lo] = b;
+                array[hi] = a;
+                swaps++;
+            }
+        }
+        return swaps;
+    }
+}
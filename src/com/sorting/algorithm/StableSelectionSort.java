@@ -0,0 +1,244 @@
+package com.sorting.algorithm;
+
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.SortingMetrics;
+
+import java.lang.reflect.Array;
+
+// Stable selection sort over int keys with parallel payload arrays (int[] or object arrays), so records
+// can be sorted by a secondary key and then a primary one. The scan takes the first of equal minima and
+// moves it to the front of the unsorted region by shifting the block in between one slot right with
+// System.arraycopy, which keeps equal keys in input order; swapping would not.
+// sortByIndex does the same selection on (key, index) pairs packed into longs, where the index breaks
+// ties, and then permutes keys and payloads once: O(n) moves per array instead of O(n²).
+public class StableSelectionSort {
+
+    private final SortingMetrics metrics;
+    private final boolean enableMetrics;
+
+    public StableSelectionSort() {
+        this(true);
+    }
+
+    public StableSelectionSort(boolean enableMetrics) {
+        this.enableMetrics = enableMetrics;
+        this.metrics = enableMetrics ? new SortingMetrics() : null;
+    }
+
+    public void sort(int[] keys, int[]... payloads) {
+        sortBlockShift(keys, validatePayloads(keys, payloads));
+    }
+
+    public <T> void sort(int[] keys, T[] payload) {
+        sortBlockShift(keys, validatePayloads(keys, new Object[] {payload}));
+    }
+
+    public void sortByIndex(int[] keys, int[]... payloads) {
+        sortIndexed(keys, validatePayloads(keys, payloads));
+    }
+
+    public <T> void sortByIndex(int[] keys, T[] payload) {
+        sortIndexed(keys, validatePayloads(keys, new Object[] {payload}));
+    }
+
+    // The stable sorted order of keys as source indices; keys are left untouched.
+    public int[] stableOrder(int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        if (enableMetrics) {
+            metrics.beginRun();
+            metrics.setMode(SortMode.STABLE_INDEX);
+        }
+        long[] packed = pack(keys);
+        selectPacked(packed);
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+
+    private Object[] validatePayloads(int[] keys, Object[] payloads) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (payloads == null) {
+            throw new IllegalArgumentException("Payloads cannot be null");
+        }
+        for (Object payload : payloads) {
+            if (payload == null) {
+                throw new IllegalArgumentException("Payload cannot be null");
+            }
+            int length = Array.getLength(payload);
+            if (length != keys.length) {
+                throw new IllegalArgumentException(
+                        String.format("Payload length %d does not match key length %d", length, keys.length));
+            }
+        }
+        return payloads;
+    }
+
+    private void sortBlockShift(int[] keys, Object[] payloads) {
+        if (enableMetrics) {
+            metrics.beginRun();
+            metrics.setMode(SortMode.STABLE);
+        }
+
+        int n = keys.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            int min = keys[i];
+            for (int j = i + 1; j < n; j++) {
+                if (keys[j] < min) {
+                    min = keys[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                System.arraycopy(keys, i, keys, i + 1, minIndex - i);
+                keys[i] = min;
+                for (Object payload : payloads) {
+                    moveToFront(payload, i, minIndex);
+                }
+            }
+
+            if (enableMetrics) {
+                long comparisons = n - i - 1;
+                metrics.incrementComparisons(comparisons);
+                metrics.incrementArrayAccess(1 + 2 * comparisons);
+                if (minIndex != i) {
+                    long moved = (long) (minIndex - i + 1) * (1 + payloads.length);
+                    metrics.incrementMoves(moved);
+                    metrics.incrementArrayAccess(2 * moved);
+                }
+                metrics.incrementIterations();
+            }
+        }
+
+        if (enableMetrics) {
+            metrics.endRun();
+        }
+    }
+
+    private static void moveToFront(Object payload, int front, int from) {
+        if (payload instanceof int[] values) {
+            int value = values[from];
+            System.arraycopy(values, front, values, front + 1, from - front);
+            values[front] = value;
+        } else {
+            Object[] values = (Object[]) payload;
+            Object value = values[from];
+            System.arraycopy(values, front, values, front + 1, from - front);
+            values[front] = value;
+        }
+    }
+
+    private void sortIndexed(int[] keys, Object[] payloads) {
+        if (enableMetrics) {
+            metrics.beginRun();
+            metrics.setMode(SortMode.STABLE_INDEX);
+        }
+
+        long[] packed = pack(keys);
+        selectPacked(packed);
+
+        int n = keys.length;
+        for (int i = 0; i < n; i++) {
+            keys[i] = (int) (packed[i] >> 32);
+        }
+        for (Object payload : payloads) {
+            permute(payload, packed);
+        }
+
+        if (enableMetrics) {
+            long moved = (long) n * (1 + payloads.length);
+            metrics.incrementMoves(moved);
+            metrics.incrementArrayAccess(2 * moved);
+            metrics.incrementMemoryAllocations(scratchBytes(n, payloads));
+            metrics.endRun();
+        }
+    }
+
+    // The packed pairs plus one source copy per payload.
+    private static long scratchBytes(int n, Object[] payloads) {
+        long bytes = (long) n * Long.BYTES;
+        for (Object payload : payloads) {
+            bytes += (long) n * (payload instanceof int[] ? Integer.BYTES : SortingMetrics.REFERENCE_BYTES);
+        }
+        return bytes;
+    }
+
+    // Signed key in the high half, index in the low half: packed order is key order with ties by index.
+    private static long[] pack(int[] keys) {
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+        return packed;
+    }
+
+    // Plain swapping selection is fine here: no two packed values are equal.
+    private void selectPacked(long[] packed) {
+        int n = packed.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            long min = packed[i];
+            for (int j = i + 1; j < n; j++) {
+                if (packed[j] < min) {
+                    min = packed[j];
+                    minIndex = j;
+                }
+            }
+
+            if (minIndex != i) {
+                packed[minIndex] = packed[i];
+                packed[i] = min;
+            }
+
+            if (enableMetrics) {
+                long comparisons = n - i - 1;
+                metrics.incrementComparisons(comparisons);
+                metrics.incrementArrayAccess(1 + 2 * comparisons);
+                if (minIndex != i) {
+                    metrics.incrementSwaps();
+                    metrics.incrementArrayAccess(4);
+                }
+                metrics.incrementIterations();
+            }
+        }
+    }
+
+    private static void permute(Object payload, long[] packed) {
+        if (payload instanceof int[] values) {
+            int[] source = values.clone();
+            for (int i = 0; i < packed.length; i++) {
+                values[i] = source[(int) packed[i]];
+            }
+        } else {
+            Object[] values = (Object[]) payload;
+            Object[] source = values.clone();
+            for (int i = 0; i < packed.length; i++) {
+                values[i] = source[(int) packed[i]];
+            }
+        }
+    }
+
+    public SortingMetrics getMetrics() {
+        if (!enableMetrics) {
+            throw new IllegalStateException("Metrics collection is disabled");
+        }
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "StableSelectionSort [Time: O(n²), Space: O(1) block shift / O(n) by index, Stable: Yes, In-place: Yes]";
+    }
+}
@@ -0,0 +1,140 @@
+package com.sorting.algorithm;
+
+import com.sorting.validation.InputValidator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+// Per-machine crossover points read by the dispatchers when a sorter is constructed:
+//   strategyThreshold     arrays longer than this leave selection for the heap strategy (SelectionSort.tuned)
+//   insertionDescentRatio sortAdaptive tries insertion when descents <= n / ratio (SelectionSort.tuned)
+//   rangeThreshold        arrays longer than this leave selection for counting/radix (RangeSelectionSort)
+//   parallelCutoff        scans longer than this are split across the pool (ParallelSelectionSort)
+//   vectorCutoff          scans shorter than this stay scalar (VectorizedSelectionSort)
+// A plain SelectionSort ignores the profile and keeps the fixed defaults.
+// The current profile is loaded once from the file named by the sorting.tuning.profile system property, or
+// ~/.selection-sort/tuning.properties, and falls back to the built-in defaults when there is none.
+// AutoTuner calibrates and writes the file.
+public record TuningProfile(int strategyThreshold, int insertionDescentRatio, int rangeThreshold,
+                            int parallelCutoff, int vectorCutoff) {
+
+    public static final String PROFILE_PROPERTY = "sorting.tuning.profile";
+
+    public static final int DEFAULT_INSERTION_DESCENT_RATIO = 8;
+    public static final int DEFAULT_RANGE_THRESHOLD = 64;
+    public static final int DEFAULT_PARALLEL_CUTOFF = 8_192;
+    public static final int DEFAULT_VECTOR_CUTOFF = 0;
+
+    private static final String STRATEGY_THRESHOLD = "strategy.threshold";
+    private static final String INSERTION_DESCENT_RATIO = "insertion.descentRatio";
+    private static final String RANGE_THRESHOLD = "range.threshold";
+    private static final String PARALLEL_CUTOFF = "parallel.cutoff";
+    private static final String VECTOR_CUTOFF = "vector.cutoff";
+
+    private static volatile TuningProfile current;
+
+    public TuningProfile {
+        InputValidator.validateNonNegative(strategyThreshold, "Strategy threshold");
+        InputValidator.validatePositive(insertionDescentRatio, "Insertion descent ratio");
+        InputValidator.validateNonNegative(rangeThreshold, "Range threshold");
+        InputValidator.validatePositive(parallelCutoff, "Parallel cutoff");
+        InputValidator.validateNonNegative(vectorCutoff, "Vector cutoff");
+    }
+
+    public static TuningProfile defaults() {
+        return new TuningProfile(SelectionSort.DEFAULT_STRATEGY_THRESHOLD, DEFAULT_INSERTION_DESCENT_RATIO,
+                DEFAULT_RANGE_THRESHOLD, DEFAULT_PARALLEL_CUTOFF, DEFAULT_VECTOR_CUTOFF);
+    }
+
+    public static Path defaultPath() {
+        String configured = System.getProperty(PROFILE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".selection-sort", "tuning.properties");
+    }
+
+    // A missing or unreadable profile must not stop sorting, so problems are reported and defaults used.
+    public static TuningProfile current() {
+        TuningProfile profile = current;
+        if (profile != null) {
+            return profile;
+        }
+
+        synchronized (TuningProfile.class) {
+            if (current == null) {
+                Path path = defaultPath();
+                TuningProfile loaded = defaults();
+                if (Files.exists(path)) {
+                    try {
+                        loaded = load(path);
+                    } catch (IOException | IllegalArgumentException e) {
+                        System.err.println("Ignoring tuning profile " + path + ": " + e.getMessage());
+                    }
+                }
+                current = loaded;
+            }
+            return current;
+        }
+    }
+
+    // Sorters constructed afterwards use the new profile; existing ones keep their settings.
+    public static void setCurrent(TuningProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Tuning profile cannot be null");
+        }
+        current = profile;
+    }
+
+    // Keys missing from the file keep their defaults, so older profiles still load.
+    public static TuningProfile load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        TuningProfile defaults = defaults();
+        return new TuningProfile(
+                readInt(properties, STRATEGY_THRESHOLD, defaults.strategyThreshold),
+                readInt(properties, INSERTION_DESCENT_RATIO, defaults.insertionDescentRatio),
+                readInt(properties, RANGE_THRESHOLD, defaults.rangeThreshold),
+                readInt(properties, PARALLEL_CUTOFF, defaults.parallelCutoff),
+                readInt(properties, VECTOR_CUTOFF, defaults.vectorCutoff));
+    }
+
+    private static int readInt(Properties properties, String key, int fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for %s: '%s'", key, value));
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(STRATEGY_THRESHOLD, Integer.toString(strategyThreshold));
+        properties.setProperty(INSERTION_DESCENT_RATIO, Integer.toString(insertionDescentRatio));
+        properties.setProperty(RANGE_THRESHOLD, Integer.toString(rangeThreshold));
+        properties.setProperty(PARALLEL_CUTOFF, Integer.toString(parallelCutoff));
+        properties.setProperty(VECTOR_CUTOFF, Integer.toString(vectorCutoff));
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, String.format("Selection sort tuning profile (%s, %d processors, Java %s)",
+                    System.getProperty("os.arch"), Runtime.getRuntime().availableProcessors(),
+                    System.getProperty("java.version")));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sorting.algorithm;
+
+import com.sorting.validation.InputValidator;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Requires --add-modules jdk.incubator.vector at compile time and run time.
+public class VectorizedSelectionSort extends SelectionSort {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // Scans shorter than this stay scalar; the vector loop needs at least two full vectors regardless.
+    private int vectorCutoff = TuningProfile.current().vectorCutoff();
+
+    public VectorizedSelectionSort() {
+        super();
+    }
+
+    public VectorizedSelectionSort(boolean enableMetrics) {
+        super(enableMetrics);
+    }
+
+    // Lane-wise min over full vectors, a scalar tail, then the first index holding the minimum.
+    // Returning the first occurrence matches the strict '<' scan of the scalar version on ties.
+    @Override
+    protected int findMinimumIndex(int[] array, int start, int end) {
+        int length = end - start;
+        if (length < Math.max(2 * SPECIES.length(), vectorCutoff)) {
+            return super.findMinimumIndex(array, start, end);
+        }
+
+        int upper = start + SPECIES.loopBound(length);
+        IntVector minVector = IntVector.fromArray(SPECIES, array, start);
+        for (int j = start + SPECIES.length(); j < upper; j += SPECIES.length()) {
+            minVector = minVector.min(IntVector.fromArray(SPECIES, array, j));
+        }
+
+        int min = minVector.reduceLanes(VectorOperators.MIN);
+        for (int j = upper; j < end; j++) {
+            if (array[j] < min) {
+                min = array[j];
+            }
+        }
+
+        return firstIndexOf(array, start, upper, end, min);
+    }
+
+    @Override
+    protected int findMaximumIndex(int[] array, int start, int end) {
+        int length = end - start;
+        if (length < Math.max(2 * SPECIES.length(), vectorCutoff)) {
+            return super.findMaximumIndex(array, start, end);
+        }
+
+        int upper = start + SPECIES.loopBound(length);
+        IntVector maxVector = IntVector.fromArray(SPECIES, array, start);
+        for (int j = start + SPECIES.length(); j < upper; j += SPECIES.length()) {
+            maxVector = maxVector.max(IntVector.fromArray(SPECIES, array, j));
+        }
+
+        int max = maxVector.reduceLanes(VectorOperators.MAX);
+        for (int j = upper; j < end; j++) {
+            if (array[j] > max) {
+                max = array[j];
+            }
+        }
+
+        return firstIndexOf(array, start, upper, end, max);
+    }
+
+    public int getVectorCutoff() {
+        return vectorCutoff;
+    }
+
+    public void setVectorCutoff(int vectorCutoff) {
+        InputValidator.validateNonNegative(vectorCutoff, "Vector cutoff");
+        this.vectorCutoff = vectorCutoff;
+    }
+
+    private static int firstIndexOf(int[] array, int start, int upper, int end, int value) {
+        IntVector target = IntVector.broadcast(SPECIES, value);
+        for (int j = start; j < upper; j += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, array, j).eq(target);
+            if (hits.anyTrue()) {
+                return j + hits.firstTrue();
+            }
+        }
+        for (int j = upper; j < end; j++) {
+            if (array[j] == value) {
+                return j;
+            }
+        }
+        throw new IllegalStateException("Reduced value not found in range");
+    }
+
+    @Override
+    public String getName() {
+        return "Vectorized Selection Sort";
+    }
+
+    @Override
+    public String toString() {
+        return "VectorizedSelectionSort [Time: O(n²), Space: O(1), Stable: No, In-place: Yes, Lanes: "
+                + SPECIES.length() + "]";
+    }
+}
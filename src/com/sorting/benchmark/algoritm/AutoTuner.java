@@ -0,0 +1,350 @@
+package com.sorting.benchmark.algoritm;
+
+import com.sorting.algorithm.HeapSelectionStrategy;
+import com.sorting.algorithm.ParallelSelectionSort;
+import com.sorting.algorithm.RangeSelectionSort;
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SmallArraySorter;
+import com.sorting.algorithm.TuningProfile;
+import com.sorting.algorithm.VectorizedSelectionSort;
+import com.sorting.validation.InputValidator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+// Calibrates the TuningProfile crossovers on this machine. Where verifyComplexity fits t/n² for one engine,
+// each calibration here walks a doubling ladder and times the incumbent against the challenger at every
+// rung, with metrics off so counter overhead does not move the crossover. A challenger has to win two rungs
+// in a row to count, which filters out single noisy samples.
+// Sorts: the threshold is the last rung the incumbent won, never below the sorting-network sizes; if the
+// challenger never wins, the largest rung. Scans and the descent ratio: the first winning rung; if the
+// challenger never wins (a parallel scan on one core), Integer.MAX_VALUE keeps the incumbent throughout.
+public class AutoTuner {
+
+    public static final int DEFAULT_MAX_SORT_SIZE = 8_192;
+    public static final int DEFAULT_MAX_SCAN_LENGTH = 1 << 19;
+
+    private static final int MIN_SORT_SIZE = SmallArraySorter.MAX_NETWORK_SIZE;
+    private static final int MIN_SCAN_LENGTH = 8;
+    private static final int MIN_PARALLEL_CUTOFF = 1_024;
+    private static final int[] DESCENT_RATIOS = {2, 4, 8, 16, 32, 64, 128};
+
+    private static final int WARMUP_SAMPLES = 3;
+    private static final int SAMPLES = 7;
+    // Elements processed per timed sample, so small sizes are timed in batches well above timer resolution.
+    private static final int SAMPLE_ELEMENTS = 1 << 14;
+
+    private final int maxSortSize;
+    private final int maxScanLength;
+    private final Random random = new Random(42);
+    private long sink;
+
+    public AutoTuner() {
+        this(DEFAULT_MAX_SORT_SIZE, DEFAULT_MAX_SCAN_LENGTH);
+    }
+
+    public AutoTuner(int maxSortSize, int maxScanLength) {
+        InputValidator.validatePositive(maxSortSize, "Max sort size");
+        InputValidator.validatePositive(maxScanLength, "Max scan length");
+        if (maxSortSize < 2 * MIN_SORT_SIZE || maxScanLength < 2 * MIN_PARALLEL_CUTOFF) {
+            throw new IllegalArgumentException(String.format("Ladder too short: max sort size %d, max scan length %d",
+                    maxSortSize, maxScanLength));
+        }
+        this.maxSortSize = maxSortSize;
+        this.maxScanLength = maxScanLength;
+    }
+
+    // Calibrates every crossover; anything that cannot be measured here keeps its value from the base profile.
+    public TuningProfile calibrate(TuningProfile base) {
+        if (base == null) {
+            throw new IllegalArgumentException("Tuning profile cannot be null");
+        }
+
+        System.out.println("Calibrating on " + Runtime.getRuntime().availableProcessors() + " processor(s)...");
+
+        System.out.print("Selection vs heap...");
+        int strategyThreshold = calibrateStrategyThreshold();
+        System.out.println(" Done!");
+
+        System.out.print("Selection vs insertion on nearly sorted input...");
+        int descentRatio = calibrateInsertionDescentRatio(strategyThreshold);
+        System.out.println(" Done!");
+
+        System.out.print("Selection vs counting/radix...");
+        int rangeThreshold = calibrateRangeThreshold();
+        System.out.println(" Done!");
+
+        System.out.print("Sequential vs parallel scan...");
+        int parallelCutoff = calibrateParallelCutoff();
+        System.out.println(" Done!");
+
+        System.out.print("Scalar vs vector scan...");
+        int vectorCutoff;
+        try {
+            vectorCutoff = calibrateVectorCutoff();
+            System.out.println(" Done!");
+        } catch (LinkageError e) {
+            // jdk.incubator.vector is not in the module graph; VectorizedSelectionSort cannot run either.
+            vectorCutoff = base.vectorCutoff();
+            System.out.println(" Skipped (jdk.incubator.vector not available)");
+        }
+
+        return new TuningProfile(strategyThreshold, descentRatio, rangeThreshold, parallelCutoff, vectorCutoff);
+    }
+
+    public TuningProfile calibrate() {
+        return calibrate(TuningProfile.defaults());
+    }
+
+    int calibrateStrategyThreshold() {
+        SelectionSort selection = new SelectionSort(false);
+        selection.setStrategy(null);
+        SelectionSort heap = new SelectionSort(false);
+        heap.setStrategy(new HeapSelectionStrategy());
+        heap.setStrategyThreshold(0);
+        return sortCrossover(selection::sort, heap::sort);
+    }
+
+    int calibrateRangeThreshold() {
+        SelectionSort selection = new SelectionSort(false);
+        selection.setStrategy(null);
+        RangeSelectionSort range = new RangeSelectionSort(false);
+        range.setStrategyThreshold(0);
+        return sortCrossover(selection::sort, range::sort);
+    }
+
+    // At a fixed size, finds the densest descents (smallest n / descents) at which insertion still beats the
+    // engine sortAdaptive would otherwise fall back to.
+    int calibrateInsertionDescentRatio(int strategyThreshold) {
+        int n = Math.min(maxSortSize, 4_096);
+        SelectionSort engine = new SelectionSort(false);
+        engine.setStrategyThreshold(strategyThreshold);
+        SelectionSort insertion = new SelectionSort(false);
+        insertion.setStrategyThreshold(strategyThreshold);
+        insertion.setInsertionDescentRatio(1);
+
+        boolean wonPrevious = false;
+        for (int r = 0; r < DESCENT_RATIOS.length; r++) {
+            int[] source = nearlySorted(n, n / DESCENT_RATIOS[r]);
+            if (medianNanos(source, insertion::sortAdaptive) < medianNanos(source, engine::sort)) {
+                if (wonPrevious) {
+                    return DESCENT_RATIOS[r - 1];
+                }
+                wonPrevious = true;
+            } else {
+                wonPrevious = false;
+            }
+        }
+        // A single win on the sparsest rung still counts; only a ladder with no win at all disables insertion.
+        return wonPrevious ? DESCENT_RATIOS[DESCENT_RATIOS.length - 1] : Integer.MAX_VALUE;
+    }
+
+    // A scan of 2c elements split at c against the same scan done sequentially.
+    int calibrateParallelCutoff() {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        try (ParallelScanProbe sequential = new ParallelScanProbe(parallelism, Integer.MAX_VALUE)) {
+            boolean wonPrevious = false;
+            for (int cutoff = MIN_PARALLEL_CUTOFF; 2L * cutoff <= maxScanLength; cutoff <<= 1) {
+                int[] source = randomArray(2 * cutoff);
+                boolean won;
+                try (ParallelScanProbe parallel = new ParallelScanProbe(parallelism, cutoff)) {
+                    won = scanNanos(source, parallel::scan) < scanNanos(source, sequential::scan);
+                }
+                if (won && wonPrevious) {
+                    return cutoff / 2;
+                }
+                wonPrevious = won;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    int calibrateVectorCutoff() {
+        ScalarScanProbe scalar = new ScalarScanProbe();
+        VectorScanProbe vector = new VectorScanProbe();
+        int maxLength = Math.min(maxScanLength, 1 << 12);
+        for (int length = MIN_SCAN_LENGTH; length <= maxLength; length <<= 1) {
+            int[] source = randomArray(length);
+            scanNanos(source, scalar::scan);
+            scanNanos(source, vector::scan);
+        }
+
+        boolean wonPrevious = false;
+        for (int length = MIN_SCAN_LENGTH; length <= maxLength; length <<= 1) {
+            int[] source = randomArray(length);
+            boolean won = scanNanos(source, vector::scan) < scanNanos(source, scalar::scan);
+            if (won && wonPrevious) {
+                return length / 2;
+            }
+            wonPrevious = won;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private int sortCrossover(Consumer<int[]> incumbent, Consumer<int[]> challenger) {
+        // One untimed pass over the ladder, so neither engine is measured while it is still interpreted.
+        for (int n = MIN_SORT_SIZE; n <= maxSortSize; n <<= 1) {
+            int[] source = randomArray(n);
+            medianNanos(source, incumbent);
+            medianNanos(source, challenger);
+        }
+
+        boolean wonPrevious = false;
+        for (int n = MIN_SORT_SIZE; n <= maxSortSize; n <<= 1) {
+            int[] source = randomArray(n);
+            if (medianNanos(source, challenger) < medianNanos(source, incumbent)) {
+                if (wonPrevious) {
+                    return Math.max(MIN_SORT_SIZE, n / 4);
+                }
+                wonPrevious = true;
+            } else {
+                wonPrevious = false;
+            }
+        }
+        return wonPrevious ? maxSortSize / 2 : maxSortSize;
+    }
+
+    // Median time of one sample: sorting a batch of fresh copies of source.
+    private long medianNanos(int[] source, Consumer<int[]> sort) {
+        int batch = Math.max(1, SAMPLE_ELEMENTS / source.length);
+        int[][] copies = new int[batch][];
+        long[] samples = new long[SAMPLES];
+
+        for (int s = -WARMUP_SAMPLES; s < SAMPLES; s++) {
+            for (int b = 0; b < batch; b++) {
+                copies[b] = source.clone();
+            }
+            long start = System.nanoTime();
+            for (int[] copy : copies) {
+                sort.accept(copy);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (s >= 0) {
+                samples[s] = elapsed;
+            }
+        }
+
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private long scanNanos(int[] source, ScanProbe probe) {
+        int batch = Math.max(1, SAMPLE_ELEMENTS / source.length);
+        long[] samples = new long[SAMPLES];
+
+        for (int s = -WARMUP_SAMPLES; s < SAMPLES; s++) {
+            long start = System.nanoTime();
+            for (int b = 0; b < batch; b++) {
+                sink += probe.scan(source);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (s >= 0) {
+                samples[s] = elapsed;
+            }
+        }
+
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private int[] randomArray(int size) {
+        return InputDistribution.RANDOM.generate(size, random);
+    }
+
+    // Sorted input with the given number of random position swaps, as generateNearlySortedArray builds it.
+    private int[] nearlySorted(int size, int swaps) {
+        int[] array = InputDistribution.SORTED.generate(size, random);
+        for (int i = 0; i < swaps; i++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            int temp = array[a];
+            array[a] = array[b];
+            array[b] = temp;
+        }
+        return array;
+    }
+
+    public String generateReport(TuningProfile before, TuningProfile after) {
+        StringBuilder report = new StringBuilder();
+        report.append("Tuning Profile\n");
+        report.append("==============\n\n");
+        report.append(String.format("%-26s %-15s %-15s%n", "Crossover", "Before", "After"));
+        report.append("-".repeat(56)).append("\n");
+        appendRow(report, "Selection -> heap", before.strategyThreshold(), after.strategyThreshold());
+        appendRow(report, "Insertion descent ratio", before.insertionDescentRatio(), after.insertionDescentRatio());
+        appendRow(report, "Selection -> radix", before.rangeThreshold(), after.rangeThreshold());
+        appendRow(report, "Parallel scan cutoff", before.parallelCutoff(), after.parallelCutoff());
+        appendRow(report, "Vector scan cutoff", before.vectorCutoff(), after.vectorCutoff());
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, int before, int after) {
+        report.append(String.format("%-26s %-15s %-15s%n", name, format(before), format(after)));
+    }
+
+    private static String format(int value) {
+        return value == Integer.MAX_VALUE ? "never" : String.format("%,d", value);
+    }
+
+    private interface ScanProbe {
+        int scan(int[] array);
+    }
+
+    // The probes reach the protected scan kernels the sorters dispatch between.
+    private static final class ScalarScanProbe extends SelectionSort implements ScanProbe {
+
+        ScalarScanProbe() {
+            super(false);
+        }
+
+        @Override
+        public int scan(int[] array) {
+            return findMinimumIndex(array, 0, array.length);
+        }
+    }
+
+    private static final class VectorScanProbe extends VectorizedSelectionSort implements ScanProbe {
+
+        VectorScanProbe() {
+            super(false);
+            setVectorCutoff(0);
+        }
+
+        @Override
+        public int scan(int[] array) {
+            return findMinimumIndex(array, 0, array.length);
+        }
+    }
+
+    private static final class ParallelScanProbe extends ParallelSelectionSort implements ScanProbe {
+
+        ParallelScanProbe(int parallelism, int cutoff) {
+            super(false, parallelism, cutoff);
+        }
+
+        @Override
+        public int scan(int[] array) {
+            return findMinimumIndex(array, 0, array.length);
+        }
+    }
+
+    // Recalibrates, writes the profile to path and makes it current for sorters constructed from now on.
+    public static TuningProfile regenerate(Path path) throws IOException {
+        AutoTuner tuner = new AutoTuner();
+        TuningProfile before = TuningProfile.current();
+        TuningProfile profile = tuner.calibrate(before);
+        profile.save(path);
+        TuningProfile.setCurrent(profile);
+
+        System.out.println("\n" + tuner.generateReport(before, profile));
+        System.out.println("Tuning profile written to " + path.toAbsolutePath());
+        return profile;
+    }
+
+    public static void main(String[] args) throws IOException {
+        regenerate(args.length > 0 ? Path.of(args[0]) : TuningProfile.defaultPath());
+    }
+}
@@ -0,0 +1,65 @@
+package com.sorting.benchmark.algoritm;
+
+import java.util.Random;
+
+public enum InputDistribution {
+
+    RANDOM("random"),
+    SORTED("sorted"),
+    REVERSE_SORTED("reverse-sorted"),
+    NEARLY_SORTED("nearly-sorted");
+
+    private final String label;
+
+    InputDistribution(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int[] generate(int size, Random random) {
+        int[] array = new int[size];
+        switch (this) {
+        case RANDOM:
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(10000);
+            }
+            break;
+        case SORTED:
+            for (int i = 0; i < size; i++) {
+                array[i] = i;
+            }
+            break;
+        case REVERSE_SORTED:
+            for (int i = 0; i < size; i++) {
+                array[i] = size - i;
+            }
+            break;
+        case NEARLY_SORTED:
+            for (int i = 0; i < size; i++) {
+                array[i] = i;
+            }
+            int swaps = (int) (size * 0.05);
+            for (int i = 0; i < swaps && size > 1; i++) {
+                int idx1 = random.nextInt(size);
+                int idx2 = random.nextInt(size);
+                int temp = array[idx1];
+                array[idx1] = array[idx2];
+                array[idx2] = temp;
+            }
+            break;
+        }
+        return array;
+    }
+
+    public static InputDistribution fromLabel(String label) {
+        for (InputDistribution distribution : values()) {
+            if (distribution.label.equalsIgnoreCase(label)) {
+                return distribution;
+            }
+        }
+        throw new IllegalArgumentException("Unknown input distribution: " + label);
+    }
+}
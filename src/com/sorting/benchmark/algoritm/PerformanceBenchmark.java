@@ -1,6 +1,7 @@
 package com.sorting.benchmark.algoritm;
 
-import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SortAlgorithm;
+import com.sorting.algorithm.SortAlgorithms;
 import com.sorting.metrics.SortingMetrics;
 
 import java.io.FileWriter;
@@ -10,38 +11,74 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
-public class PerformanceBenchmark {
+// Closes the algorithms it creates from registry names; one passed in by the caller stays the caller's.
+public class PerformanceBenchmark implements AutoCloseable {
 
-    private final SelectionSort sorter;
+    private SortAlgorithm sorter;
+    private boolean ownsSorter;
     private final Random random;
     private static final int WARMUP_ITERATIONS = 5;
     private static final int BENCHMARK_ITERATIONS = 10;
 
     public PerformanceBenchmark() {
-        this.sorter = new SelectionSort(true);
+        this(SortAlgorithms.DEFAULT_ALGORITHM);
+    }
+
+    public PerformanceBenchmark(String algorithmName) {
+        this(SortAlgorithms.create(algorithmName));
+        this.ownsSorter = true;
+    }
+
+    // The algorithm must have metrics enabled; every result reads its counters.
+    public PerformanceBenchmark(SortAlgorithm sorter) {
+        if (sorter == null) {
+            throw new IllegalArgumentException("Algorithm cannot be null");
+        }
+        this.sorter = sorter;
         this.random = new Random(42);
     }
 
+    public String getAlgorithmName() {
+        return sorter.getName();
+    }
+
     public void start() {
     }
     public void stop(){
 
     }
 
-    public record BenchmarkResult(int arraySize, double avgTimeMs, long avgComparisons, long avgSwaps,
-                                  long avgArrayAccesses, double stdDevTime) {
+    public record BenchmarkResult(String algorithm, int arraySize, double avgTimeMs, long avgComparisons,
+                                  long avgSwaps, long avgArrayAccesses, double stdDevTime) {
 
         @Override
             public String toString() {
-                return String.format ("Size: %,d | Time: %.3f ms | Comparisons: %,d | Swaps: %,d",
-                        arraySize, avgTimeMs, avgComparisons, avgSwaps);
+                return String.format ("%s | Size: %,d | Time: %.3f ms | Comparisons: %,d | Swaps: %,d",
+                        algorithm, arraySize, avgTimeMs, avgComparisons, avgSwaps);
             }
         }
 
+    // Switches this benchmark to a fresh instance of the named algorithm before running.
+    public List<BenchmarkResult> runBenchmarks(String algorithmName, int[] sizes) {
+        SortAlgorithm next = SortAlgorithms.create(algorithmName);
+        close();
+        sorter = next;
+        ownsSorter = true;
+        return runBenchmarks(sizes);
+    }
+
+    @Override
+    public void close() {
+        if (ownsSorter) {
+            sorter.close();
+            ownsSorter = false;
+        }
+    }
+
     public List<BenchmarkResult> runBenchmarks(int[] sizes) {
         List<BenchmarkResult> results = new ArrayList<>();
 
-        System.out.println("Starting Performance Benchmarks...");
+        System.out.println("Starting Performance Benchmarks: " + sorter.getName());
         System.out.println("Warmup iterations: " + WARMUP_ITERATIONS);
         System.out.println("Benchmark iterations: " + BENCHMARK_ITERATIONS);
         System.out.println();
@@ -69,9 +106,6 @@ public class PerformanceBenchmark {
 
         for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
             int[] array = generateRandomArray(size);
-            sorter.resetMetrics();
-            System.gc();
-
             sorter.sort(array);
 
             SortingMetrics metrics = sorter.getMetrics();
@@ -87,7 +121,7 @@ public class PerformanceBenchmark {
         long avgAccess = (long) average(accesses);
         double stdDev = standardDeviation(times, avgTime);
 
-        return new BenchmarkResult(size, avgTime, avgComp, avgSwap, avgAccess, stdDev);
+        return new BenchmarkResult(sorter.getName(), size, avgTime, avgComp, avgSwap, avgAccess, stdDev);
     }
 
     public BenchmarkResult[] benchmarkDistributions(int size) {
@@ -120,8 +154,6 @@ public class PerformanceBenchmark {
 
         for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
             int[] array = generator.generate(size);
-            sorter.resetMetrics();
-
             sorter.sort(array);
 
             SortingMetrics metrics = sorter.getMetrics();
@@ -134,6 +166,7 @@ public class PerformanceBenchmark {
         System.out.println(" Done!");
 
         return new BenchmarkResult(
+                sorter.getName(),
                 size,
                 average(times),
                 (long) average(comparisons),
@@ -181,17 +214,27 @@ public class PerformanceBenchmark {
         return report.toString();
     }
 
+    // Benchmarks each named algorithm over the same sizes and writes all rows to one file.
+    public void exportToCSV(List<String> algorithmNames, int[] sizes, String filename) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (String algorithmName : algorithmNames) {
+            results.addAll(runBenchmarks(algorithmName, sizes));
+        }
+        exportToCSV(results, filename);
+    }
+
     public void exportToCSV(List<BenchmarkResult> results, String filename) {
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
 
-            writer.println("ArraySize,AvgTimeMs,AvgComparisons,AvgSwaps," +
+            writer.println("Algorithm,ArraySize,AvgTimeMs,AvgComparisons,AvgSwaps," +
                     "AvgArrayAccesses,StdDevTime,TheoreticalComparisons,RatioTN2");
 
             for (BenchmarkResult result : results) {
                 long theoretical = SortingMetrics.theoreticalComparisons(result.arraySize);
                 double ratio = result.avgTimeMs / (result.arraySize * result.arraySize);
 
-                writer.printf("%d,%.6f,%d,%d,%d,%.6f,%d,%.9f%n",
+                writer.printf("%s,%d,%.6f,%d,%d,%d,%.6f,%d,%.9f%n",
+                        csvField(result.algorithm),
                         result.arraySize,
                         result.avgTimeMs,
                         result.avgComparisons,
@@ -210,18 +253,26 @@ public class PerformanceBenchmark {
         }
     }
 
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     public String generateReport(List<BenchmarkResult> results) {
         StringBuilder report = new StringBuilder();
         report.append("╔════════════════════════════════════════════════════════════════╗\n");
         report.append("║          Selection Sort Performance Benchmark Report           ║\n");
         report.append("╚════════════════════════════════════════════════════════════════╝\n\n");
 
-        report.append(String.format("%-12s %-15s %-15s %-12s %-15s%n",
-                "Size", "Time (ms)", "Comparisons", "Swaps", "Std Dev (ms)"));
-        report.append("-".repeat(75)).append("\n");
+        report.append(String.format("%-26s %-12s %-15s %-15s %-12s %-15s%n",
+                "Algorithm", "Size", "Time (ms)", "Comparisons", "Swaps", "Std Dev (ms)"));
+        report.append("-".repeat(102)).append("\n");
 
         for (BenchmarkResult result : results) {
-            report.append(String.format("%-12s %-15.3f %-15s %-12s %-15.3f%n",
+            report.append(String.format("%-26s %-12s %-15.3f %-15s %-12s %-15.3f%n",
+                    result.algorithm,
                     String.format("%,d", result.arraySize),
                     result.avgTimeMs,
                     String.format("%,d", result.avgComparisons),
@@ -237,35 +288,23 @@ public class PerformanceBenchmark {
             long theoretical = SortingMetrics.theoreticalComparisons(result.arraySize);
             long difference = result.avgComparisons - theoretical;
 
-            report.append(String.format("Size %,d: Theoretical=%,d, Actual=%,d, Diff=%+d%n",
-                    result.arraySize, theoretical, result.avgComparisons, difference));
+            report.append(String.format("%s, size %,d: Theoretical=%,d, Actual=%,d, Diff=%+d%n",
+                    result.algorithm, result.arraySize, theoretical, result.avgComparisons, difference));
         }
 
         return report.toString();
     }
 
     private int[] generateRandomArray(int size) {
-        int[] array = new int[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(10000);
-        }
-        return array;
+        return InputDistribution.RANDOM.generate(size, random);
     }
 
     private int[] generateSortedArray(int size) {
-        int[] array = new int[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = i;
-        }
-        return array;
+        return InputDistribution.SORTED.generate(size, random);
     }
 
     private int[] generateReverseSortedArray(int size) {
-        int[] array = new int[size];
-        for (int i = 0; i < size; i++) {
-            array[i] = size - i;
-        }
-        return array;
+        return InputDistribution.REVERSE_SORTED.generate(size, random);
     }
 
     private int[] generateNearlySortedArray(int size, int swaps) {
@@ -310,13 +349,15 @@ public class PerformanceBenchmark {
     }
 
     public static void main(String[] args) {
-        PerformanceBenchmark benchmark = new PerformanceBenchmark();
-        int[] sizes = {1000, 5000, 50000};
-        List<BenchmarkResult> results = benchmark.runBenchmarks(sizes);
+        try (PerformanceBenchmark benchmark = new PerformanceBenchmark(
+                args.length > 0 ? args[0] : SortAlgorithms.DEFAULT_ALGORITHM)) {
+            int[] sizes = {1000, 5000, 50000};
+            List<BenchmarkResult> results = benchmark.runBenchmarks(sizes);
 
-        System.out.println("\n" + benchmark.generateReport(results));
-        System.out.println("\n" + benchmark.verifyComplexity());
+            System.out.println("\n" + benchmark.generateReport(results));
+            System.out.println("\n" + benchmark.verifyComplexity());
 
-        benchmark.exportToCSV(results, "selection_sort_benchmark.csv");
+            benchmark.exportToCSV(results, "selection_sort_benchmark.csv");
+        }
     }
 }
\ No newline at end of file
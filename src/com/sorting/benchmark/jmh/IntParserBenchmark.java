@@ -0,0 +1,71 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.validation.IntParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Parses the same space/comma separated text through IntParser and through the split + parseInt
+// baseline it replaces. The 10M case is the acceptance target (well under a second per parse).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntParserBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int count;
+
+    private String text;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(count * 12);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(i % 16 == 0 ? '\n' : ' ');
+            }
+            builder.append(random.nextInt());
+        }
+        text = builder.toString();
+        bytes = text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public int[] parseString() {
+        return IntParser.parse(text);
+    }
+
+    @Benchmark
+    public int[] parseStream() throws IOException {
+        return IntParser.parse(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public int[] splitAndParseInt() {
+        String[] tokens = text.split("[\\s,]+");
+        int[] values = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            values[i] = Integer.parseInt(tokens[i]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,134 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SortAlgorithms;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import com.sorting.benchmark.algoritm.PerformanceBenchmark;
+import com.sorting.benchmark.algoritm.PerformanceBenchmark.BenchmarkResult;
+import com.sorting.metrics.SortingMetrics;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+public final class JmhBenchmarkRunner {
+
+    private JmhBenchmarkRunner() {}
+
+    public static Collection<RunResult> run(String include) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        return new Runner(options).run();
+    }
+
+    // Groups JMH scores by "<method>-<distribution>" in the schema PerformanceBenchmark.exportToCSV writes.
+    public static Map<String, List<BenchmarkResult>> toBenchmarkResults(Collection<RunResult> runResults) {
+        Map<String, List<BenchmarkResult>> grouped = new LinkedHashMap<>();
+
+        for (RunResult runResult : runResults) {
+            String benchmark = runResult.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            int size = Integer.parseInt(runResult.getParams().getParam("size"));
+            String distribution = runResult.getParams().getParam("distribution");
+            if (distribution == null) {
+                distribution = InputDistribution.RANDOM.getLabel();
+            }
+
+            SortingMetrics counts = countOperations(method, size, InputDistribution.fromLabel(distribution));
+            BenchmarkResult result = new BenchmarkResult(
+                    SortAlgorithms.DEFAULT_ALGORITHM + " (" + method + ")",
+                    size,
+                    runResult.getPrimaryResult().getScore(),
+                    counts.getComparisons(),
+                    counts.getSwaps(),
+                    counts.getArrayAccesses(),
+                    runResult.getPrimaryResult().getStatistics().getStandardDeviation()
+            );
+
+            grouped.computeIfAbsent(method + "-" + distribution, key -> new ArrayList<>()).add(result);
+        }
+
+        for (List<BenchmarkResult> results : grouped.values()) {
+            results.sort(Comparator.comparingInt(BenchmarkResult::arraySize));
+        }
+        return grouped;
+    }
+
+    // Speedup of the candidate method over the baseline method, per array size.
+    public static String speedupReport(Collection<RunResult> runResults, String baseline, String candidate) {
+        Map<Integer, Double> baselineScores = new TreeMap<>();
+        Map<Integer, Double> candidateScores = new TreeMap<>();
+
+        for (RunResult runResult : runResults) {
+            String benchmark = runResult.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            int size = Integer.parseInt(runResult.getParams().getParam("size"));
+            double score = runResult.getPrimaryResult().getScore();
+
+            if (method.equals(baseline)) {
+                baselineScores.put(size, score);
+            } else if (method.equals(candidate)) {
+                candidateScores.put(size, score);
+            }
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-12s %-18s %-18s %-10s%n",
+                "Size", baseline + " (ms)", candidate + " (ms)", "Speedup"));
+        report.append("-".repeat(60)).append("\n");
+
+        for (Map.Entry<Integer, Double> entry : baselineScores.entrySet()) {
+            Double candidateScore = candidateScores.get(entry.getKey());
+            if (candidateScore == null) {
+                continue;
+            }
+            report.append(String.format("%-12s %-18.3f %-18.3f %.2fx%n",
+                    String.format("%,d", entry.getKey()),
+                    entry.getValue(),
+                    candidateScore,
+                    entry.getValue() / candidateScore));
+        }
+        return report.toString();
+    }
+
+    // JMH measures time only; operation counts are deterministic, so one instrumented run per input supplies them.
+    private static SortingMetrics countOperations(String method, int size, InputDistribution distribution) {
+        SelectionSort sorter = new SelectionSort(true);
+        int[] array = distribution.generate(size, new Random(42));
+
+        switch (method) {
+        case "sortOptimized" -> sorter.sortOptimized(array);
+        case "sortAdaptive" -> sorter.sortAdaptive(array);
+        case "sortDescending" -> sorter.sortDescending(array);
+        default -> sorter.sort(array);
+        }
+        return sorter.getMetrics().copy();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : SelectionSortBenchmark.class.getSimpleName();
+        String prefix = args.length > 1 ? args[1] : "jmh";
+
+        Map<String, List<BenchmarkResult>> results = toBenchmarkResults(run(include));
+
+        try (PerformanceBenchmark exporter = new PerformanceBenchmark()) {
+            for (Map.Entry<String, List<BenchmarkResult>> entry : results.entrySet()) {
+                exporter.exportToCSV(entry.getValue(), prefix + "-" + entry.getKey() + ".csv");
+            }
+        }
+    }
+}
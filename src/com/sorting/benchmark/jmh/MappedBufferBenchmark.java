@@ -0,0 +1,89 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.BufferSelectionSort;
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class MappedBufferBenchmark {
+
+    @Param({"1000", "10000", "200000"})
+    public int size;
+
+    private SelectionSort heapSorter;
+    private BufferSelectionSort bufferSorter;
+    private int[] source;
+    private int[] array;
+    private Path file;
+    private FileChannel channel;
+    private IntBuffer mapped;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        heapSorter = new SelectionSort(false);
+        bufferSorter = new BufferSelectionSort(false);
+        source = InputDistribution.RANDOM.generate(size, new Random(42));
+        array = new int[size];
+
+        file = Files.createTempFile("mapped-benchmark", ".bin");
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) size * Integer.BYTES);
+        mapped = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+        mapped.clear();
+        mapped.put(source);
+        mapped.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void heapArray(Blackhole blackhole) {
+        heapSorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void mappedFile(Blackhole blackhole) {
+        bufferSorter.sort(mapped);
+        blackhole.consume(mapped);
+    }
+}
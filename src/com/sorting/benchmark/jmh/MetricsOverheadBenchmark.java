@@ -0,0 +1,140 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import com.sorting.metrics.SortingMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int size;
+
+    private SelectionSort kernelWithMetrics;
+    private SelectionSort kernelWithoutMetrics;
+    private PerElementSelectionSort perElementWithMetrics;
+    private PerElementSelectionSort perElementWithoutMetrics;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        kernelWithMetrics = new SelectionSort(true);
+        kernelWithoutMetrics = new SelectionSort(false);
+        perElementWithMetrics = new PerElementSelectionSort(true);
+        perElementWithoutMetrics = new PerElementSelectionSort(false);
+        source = InputDistribution.RANDOM.generate(size, new Random(42));
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void kernelMetricsOff(Blackhole blackhole) {
+        kernelWithoutMetrics.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void kernelMetricsOn(Blackhole blackhole) {
+        kernelWithMetrics.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void perElementMetricsOff(Blackhole blackhole) {
+        perElementWithoutMetrics.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void perElementMetricsOn(Blackhole blackhole) {
+        perElementWithMetrics.sort(array);
+        blackhole.consume(array);
+    }
+
+    // Baseline copy of the original SelectionSort.sort, which checks enableMetrics on every comparison.
+    static final class PerElementSelectionSort {
+
+        private final SortingMetrics metrics;
+        private boolean enableMetrics;
+
+        PerElementSelectionSort(boolean enableMetrics) {
+            this.enableMetrics = enableMetrics;
+            this.metrics = new SortingMetrics();
+        }
+
+        void sort(int[] array) {
+            if (enableMetrics) {
+                metrics.reset();
+                metrics.startTiming();
+            }
+
+            int n = array.length;
+            for (int i = 0; i < n - 1; i++) {
+                int minIndex = findMinimumIndex(array, i, n);
+                if (minIndex != i) {
+                    swap(array, i, minIndex);
+                }
+                if (enableMetrics) {
+                    metrics.incrementIterations();
+                }
+            }
+
+            if (enableMetrics) {
+                metrics.stopTiming();
+            }
+        }
+
+        private int findMinimumIndex(int[] array, int start, int end) {
+            int minIndex = start;
+            if (enableMetrics) {
+                metrics.incrementArrayAccess();
+            }
+            for (int j = start + 1; j < end; j++) {
+                if (enableMetrics) {
+                    metrics.incrementComparisons();
+                    metrics.incrementArrayAccess(2);
+                }
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            return minIndex;
+        }
+
+        private void swap(int[] array, int i, int j) {
+            if (enableMetrics) {
+                metrics.incrementSwaps();
+                metrics.incrementArrayAccess(4);
+            }
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.HeapSelectionStrategy;
+import com.sorting.algorithm.RangeSortStrategy;
+import com.sorting.algorithm.SelectionSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Range-selected counting/radix engine against the heap strategy on the value ranges we see in practice:
+// the CLI's 0-99, PerformanceBenchmark's 0-9999, and full 32-bit keys.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class RangeSortBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"100", "10000", "0"})
+    public int valueRange;
+
+    private SelectionSort rangeSorter;
+    private SelectionSort heapSorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        rangeSorter = new SelectionSort(false);
+        rangeSorter.setStrategy(new RangeSortStrategy());
+        rangeSorter.setStrategyThreshold(64);
+        heapSorter = new SelectionSort(false);
+        heapSorter.setStrategy(new HeapSelectionStrategy());
+        heapSorter.setStrategyThreshold(64);
+
+        // A range of 0 means the full int range.
+        Random random = new Random(42);
+        source = valueRange == 0 ? random.ints(size).toArray() : random.ints(size, 0, valueRange).toArray();
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void rangeEngine(Blackhole blackhole) {
+        rangeSorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void heapStrategy(Blackhole blackhole) {
+        heapSorter.sort(array);
+        blackhole.consume(array);
+    }
+}
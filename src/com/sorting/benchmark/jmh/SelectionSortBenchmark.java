@@ -0,0 +1,77 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class SelectionSortBenchmark {
+
+    @Param({"100", "1000", "5000", "10000", "50000"})
+    public int size;
+
+    @Param({"random", "sorted", "reverse-sorted", "nearly-sorted"})
+    public String distribution;
+
+    private SelectionSort sorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = new SelectionSort(false);
+        source = InputDistribution.fromLabel(distribution).generate(size, new Random(42));
+        array = new int[size];
+    }
+
+    // Every call sorts a fresh copy made in the benchmark body: a Level.Invocation setup would add timestamp
+    // overhead comparable to a size-100 sort, while the O(n) copy stays small next to the O(n²) sort.
+    private int[] freshCopy() {
+        System.arraycopy(source, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        sorter.sort(freshCopy());
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void sortOptimized(Blackhole blackhole) {
+        sorter.sortOptimized(freshCopy());
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void sortAdaptive(Blackhole blackhole) {
+        sorter.sortAdaptive(freshCopy());
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void sortDescending(Blackhole blackhole) {
+        sorter.sortDescending(freshCopy());
+        blackhole.consume(array);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SmallArraySorter;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Per-array cost of sorting batches of tiny arrays: the selection loop with metrics (the pre-network
+// path), single-array networks, and the lane-batched sortAll.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class SmallArrayBenchmark {
+
+    private static final int BATCH = 4_096;
+
+    @Param({"4", "8", "16"})
+    public int size;
+
+    private SelectionSort selectionSort;
+    private SmallArraySorter networkSorter;
+    private int[][] sources;
+    private int[][] arrays;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        selectionSort = new SelectionSort(true);
+        networkSorter = new SmallArraySorter(false);
+        Random random = new Random(42);
+        sources = new int[BATCH][];
+        arrays = new int[BATCH][size];
+        for (int i = 0; i < BATCH; i++) {
+            sources[i] = InputDistribution.RANDOM.generate(size, random);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(sources[i], 0, arrays[i], 0, size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void selectionLoop(Blackhole blackhole) {
+        for (int[] array : arrays) {
+            selectionSort.sort(array);
+        }
+        blackhole.consume(arrays);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void network(Blackhole blackhole) {
+        for (int[] array : arrays) {
+            networkSorter.sort(array);
+        }
+        blackhole.consume(arrays);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void networkBatch(Blackhole blackhole) {
+        networkSorter.sortAll(arrays);
+        blackhole.consume(arrays);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SortExecutor;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of many tiny concurrent sort requests per execution mode, reported as arrays per microsecond.
+// Each invocation submits a batch of independent arrays and waits for all of them.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SortExecutorBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @Param({"VIRTUAL_THREADS", "FIXED_POOL", "CALLER_RUNS"})
+    public SortExecutor.Mode mode;
+
+    @Param({"5", "16", "50"})
+    public int size;
+
+    private SortExecutor executor;
+    private int[][] sources;
+    private int[][] arrays;
+    private CompletableFuture<?>[] futures;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        executor = new SortExecutor(mode, Runtime.getRuntime().availableProcessors(), false);
+        Random random = new Random(42);
+        sources = new int[BATCH][];
+        arrays = new int[BATCH][size];
+        futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            sources[i] = InputDistribution.RANDOM.generate(size, random);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(sources[i], 0, arrays[i], 0, size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sortBatch(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            futures[i] = executor.submit(arrays[i]);
+        }
+        CompletableFuture.allOf(futures).join();
+        blackhole.consume(arrays);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.StableSelectionSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Cost of stability: the unstable sort on keys alone against the block-shift and index-permutation
+// stable variants carrying one int payload. Keys come from a small range so ties are common.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class StableSelectionSortBenchmark {
+
+    @Param({"1000", "5000", "10000"})
+    public int size;
+
+    private SelectionSort unstable;
+    private StableSelectionSort stable;
+    private int[] sourceKeys;
+    private int[] keys;
+    private int[] payload;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        unstable = new SelectionSort(false);
+        unstable.setStrategy(null);
+        stable = new StableSelectionSort(false);
+        Random random = new Random(42);
+        sourceKeys = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = random.nextInt(size / 10 + 1);
+        }
+        keys = new int[size];
+        payload = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(sourceKeys, 0, keys, 0, size);
+        for (int i = 0; i < size; i++) {
+            payload[i] = i;
+        }
+    }
+
+    @Benchmark
+    public void unstableSort(Blackhole blackhole) {
+        unstable.sort(keys);
+        blackhole.consume(keys);
+    }
+
+    @Benchmark
+    public void stableBlockShift(Blackhole blackhole) {
+        stable.sort(keys, payload);
+        blackhole.consume(payload);
+    }
+
+    @Benchmark
+    public void stableByIndex(Blackhole blackhole) {
+        stable.sortByIndex(keys, payload);
+        blackhole.consume(payload);
+    }
+}
@@ -0,0 +1,117 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import com.sorting.metrics.SortingTelemetry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Per-call cost of SortingTelemetry on small arrays, where a fixed overhead shows most:
+//   untraced      a copy of the selection kernel with no telemetry hooks, the floor
+//   jfrOff        SelectionSort with no recording running, i.e. the empty event begin/end
+//   jfrOn         the same with a recording started at JVM launch, committing one SortEvent per call
+//   mxBean        no recording, SortingMetricsMXBean registered (nanoTime pair plus histogram update)
+// Metrics are off throughout so only the telemetry differs. Sizes stay above the sorting-network cutoff
+// (16) and the sorter has no strategy, so SelectionSort runs the same loop as untraced under any profile.
+// Each method copies the input itself: a sort here takes well under a microsecond, and a Level.Invocation
+// setup would add timestamping overhead far larger than the hook being measured. The copy costs the same
+// in all four variants.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class TelemetryOverheadBenchmark {
+
+    @Param({"32", "128", "512"})
+    public int size;
+
+    private SelectionSort sorter;
+    private int[] source;
+    private int[] array;
+
+    @State(Scope.Benchmark)
+    public static class RegisteredMXBean {
+
+        @Setup(Level.Trial)
+        public void register() {
+            SortingTelemetry.register();
+        }
+
+        @TearDown(Level.Trial)
+        public void unregister() {
+            SortingTelemetry.unregister();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = new SelectionSort(false);
+        sorter.setStrategy(null);
+        source = InputDistribution.RANDOM.generate(size, new Random(42));
+        array = new int[size];
+    }
+
+    @Benchmark
+    public void untraced(Blackhole blackhole) {
+        System.arraycopy(source, 0, array, 0, size);
+        selectionSort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void jfrOff(Blackhole blackhole) {
+        System.arraycopy(source, 0, array, 0, size);
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-XX:StartFlightRecording=disk=false,settings=default")
+    public void jfrOn(Blackhole blackhole) {
+        System.arraycopy(source, 0, array, 0, size);
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void mxBean(RegisteredMXBean registered, Blackhole blackhole) {
+        System.arraycopy(source, 0, array, 0, size);
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    // Same loop as SelectionSort's uninstrumented kernel above the sorting-network cutoff.
+    private static void selectionSort(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            if (minIndex != i) {
+                int temp = array[i];
+                array[i] = array[minIndex];
+                array[minIndex] = temp;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Thread)
+public class TopKBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"10", "100", "1000"})
+    public int k;
+
+    private SelectionSort sorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = new SelectionSort(false);
+        source = InputDistribution.RANDOM.generate(size, new Random(42));
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void selectBottomK(Blackhole blackhole) {
+        sorter.selectBottomK(array, k);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void selectBottomKHeap(Blackhole blackhole) {
+        sorter.selectBottomKHeap(array, k);
+        blackhole.consume(array);
+    }
+
+    // Full sort through the default dispatch (linear selection up to the strategy threshold, heap above it).
+    @Benchmark
+    public void fullSort(Blackhole blackhole) {
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+}
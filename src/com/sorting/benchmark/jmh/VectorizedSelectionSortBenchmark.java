@@ -0,0 +1,72 @@
+package com.sorting.benchmark.jmh;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.VectorizedSelectionSort;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class VectorizedSelectionSortBenchmark {
+
+    @Param({"1000", "5000", "10000", "50000", "100000"})
+    public int size;
+
+    private SelectionSort scalarSorter;
+    private SelectionSort vectorSorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        scalarSorter = new SelectionSort(false);
+        vectorSorter = new VectorizedSelectionSort(false);
+        scalarSorter.setStrategy(null);
+        vectorSorter.setStrategy(null);
+        source = InputDistribution.RANDOM.generate(size, new Random(42));
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void scalar(Blackhole blackhole) {
+        scalarSorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    @Benchmark
+    public void vectorized(Blackhole blackhole) {
+        vectorSorter.sort(array);
+        blackhole.consume(array);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = VectorizedSelectionSortBenchmark.class.getSimpleName();
+        System.out.println(JmhBenchmarkRunner.speedupReport(
+                JmhBenchmarkRunner.run(include), "scalar", "vectorized"));
+    }
+}
@@ -1,21 +1,33 @@
 package com.sorting.cli;
 
-import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SortAlgorithm;
+import com.sorting.algorithm.SortAlgorithms;
+import com.sorting.benchmark.algoritm.PerformanceBenchmark;
+import com.sorting.benchmark.algoritm.PerformanceBenchmark.BenchmarkResult;
 import com.sorting.metrics.SortingMetrics;
 import com.sorting.validation.InputValidator;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
 
 public class SelectionSortCLI {
 
     private static final Scanner scanner = new Scanner(System.in);
-    private static final SelectionSort sorter = new SelectionSort(true);
+    private static final int[] BENCHMARK_SIZES = {1000, 5000, 50000};
+
+    private static SortAlgorithm sorter = SortAlgorithms.create(SortAlgorithms.DEFAULT_ALGORITHM);
     private static final Random random = new Random();
 
+    public static void setAlgorithm(String algorithmName) {
+        SortAlgorithm previous = sorter;
+        sorter = SortAlgorithms.create(algorithmName);
+        previous.close();
+    }
+
     public static void main(String[] args) {
-        System.out.println("Welcome to the Selection Sort CLI");
+        System.out.println("Welcome to the Selection Sort CLI (" + sorter.getName() + ")");
         while (true) {
             System.out.println("Choose an option:");
             System.out.println("First Sort a manually entered array");
@@ -55,8 +67,8 @@ public class SelectionSortCLI {
             benchmark.stop();
 
             System.out.println("Sorted array: " + Arrays.toString(array));
-            SortingMetrics metrics = benchmark.getMetrics();
-            System.out.println("Sorting took " + metrics.getDuration() + " milliseconds.");
+            SortingMetrics metrics = sorter.getMetrics();
+            System.out.printf("Sorting took %.3f milliseconds.%n", metrics.getElapsedTimeMillis());
         } catch (IllegalArgumentException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -81,8 +93,8 @@ public class SelectionSortCLI {
             benchmark.stop();
 
             System.out.println("Sorted array: " + Arrays.toString(array));
-            SortingMetrics metrics = ((PerformanceBenchmark) benchmark).getMetrics();
-            System.out.println("Sorting took " + metrics.getDuration() + " milliseconds.");
+            SortingMetrics metrics = sorter.getMetrics();
+            System.out.printf("Sorting took %.3f milliseconds.%n", metrics.getElapsedTimeMillis());
         } catch (NumberFormatException e) {
             System.out.println("Error: Please enter a valid integer.");
         } catch (IllegalArgumentException e) {
@@ -91,19 +103,26 @@ public class SelectionSortCLI {
     }
 
     public void printAlgorithmInfo() {
-     
-    }
-
-    public void exportMetricsToCSV() {
-
+        System.out.println("Registered algorithms:");
+        for (String name : SortAlgorithms.names()) {
+            try (SortAlgorithm algorithm = SortAlgorithms.create(name)) {
+                System.out.printf("  %-26s %s%n", name, algorithm);
+            }
+        }
     }
 
-    public void runBenchmarks() {
+    public void exportMetricsToCSV(List<String> algorithmNames, String filename) {
+        try (PerformanceBenchmark benchmark = new PerformanceBenchmark()) {
+            benchmark.exportToCSV(algorithmNames, BENCHMARK_SIZES, filename);
+        }
     }
 
-    private static class PerformanceBenchmark extends com.sorting.benchmark.algoritm.PerformanceBenchmark {
-        public SortingMetrics getMetrics() {
-            return null;
+    public void runBenchmarks(List<String> algorithmNames) {
+        try (PerformanceBenchmark benchmark = new PerformanceBenchmark()) {
+            for (String algorithmName : algorithmNames) {
+                List<BenchmarkResult> results = benchmark.runBenchmarks(algorithmName, BENCHMARK_SIZES);
+                System.out.println("\n" + benchmark.generateReport(results));
+            }
         }
     }
 }
\ No newline at end of file
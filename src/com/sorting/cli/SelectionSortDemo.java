@@ -1,45 +1,56 @@
 package com.sorting.cli;
 
 import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SortAlgorithm;
+import com.sorting.algorithm.SortAlgorithms;
 import com.sorting.metrics.SortingMetrics;
 import java.util.Arrays;
 
 public class SelectionSortDemo {
 
     public static void main(String[] args) {
-        selectSortingDemo();
+        selectSortingDemo(args.length > 0 ? args[0] : SortAlgorithms.DEFAULT_ALGORITHM);
     }
     public static void selectSortingDemo() {
+        selectSortingDemo(SortAlgorithms.DEFAULT_ALGORITHM);
+    }
+
+    public static void selectSortingDemo(String algorithmName) {
 
-        SelectionSort sorter = new SelectionSort(true); // true → detailed tracking
+        // Registry instances track metrics and may own a pool, so the demo closes its instance.
+        try (SortAlgorithm sorter = SortAlgorithms.create(algorithmName)) {
+            System.out.println("Algorithm: " + sorter.getName());
 
-        int[] arr1 = {29, 10, 14, 37, 14};
-        System.out.println("1: Basic unsorted array");
-        runAndDisplay(sorter, arr1);
+            int[] arr1 = {29, 10, 14, 37, 14};
+            System.out.println("1: Basic unsorted array");
+            runAndDisplay(sorter, arr1);
 
-        int[] arr2 = {1, 2, 3, 4, 5, 6};
-        System.out.println("\n2: Already sorted array");
-        runAndDisplay(sorter, arr2);
+            int[] arr2 = {1, 2, 3, 4, 5, 6};
+            System.out.println("\n2: Already sorted array");
+            runAndDisplay(sorter, arr2);
 
-        int[] arr3 = {9, 7, 5, 3, 1};
-        System.out.println("\n3: Reverse-sorted array");
-        runAndDisplay(sorter, arr3);
+            int[] arr3 = {9, 7, 5, 3, 1};
+            System.out.println("\n3: Reverse-sorted array");
+            runAndDisplay(sorter, arr3);
 
-        // 4: Array with duplicates
-        int[] arr4 = {5, 2, 8, 2, 5, 2};
-        System.out.println("\n4: Array with duplicates");
-        runAndDisplay(sorter, arr4);
+            // 4: Array with duplicates
+            int[] arr4 = {5, 2, 8, 2, 5, 2};
+            System.out.println("\n4: Array with duplicates");
+            runAndDisplay(sorter, arr4);
 
-        // 5: Edge case – single element
-        int[] arr5 = {42};
-        System.out.println("\n5: Single element array");
-        runAndDisplay(sorter, arr5);
+            // 5: Edge case – single element
+            int[] arr5 = {42};
+            System.out.println("\n5: Single element array");
+            runAndDisplay(sorter, arr5);
 
-        System.out.println("\n" + sorter.getComplexityAnalysis());
-        System.out.println("=========================================");
+            if (sorter instanceof SelectionSort selectionSort) {
+                System.out.println("\n" + selectionSort.getComplexityAnalysis());
+            }
+            System.out.println("=========================================");
+        }
     }
 
-    private static void runAndDisplay(SelectionSort sorter, int[] inputArray) {
+    private static void runAndDisplay(SortAlgorithm sorter, int[] inputArray) {
         int[] array = Arrays.copyOf(inputArray, inputArray.length);
         System.out.println("Input:  " + Arrays.toString(array));
 
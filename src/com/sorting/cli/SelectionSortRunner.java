@@ -1,22 +1,36 @@
 package com.sorting.cli;
 
+import com.sorting.algorithm.SortAlgorithms;
+import com.sorting.algorithm.TuningProfile;
+import com.sorting.benchmark.algoritm.AutoTuner;
+import com.sorting.metrics.SortingTelemetry;
+import com.sorting.server.SortServer;
+
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 public final class SelectionSortRunner {
 
+    private static final String DEFAULT_CSV = "benchmark-result.csv";
+
     private SelectionSortRunner() {}
     public static void main(String[] args) {
         SelectionSortCLI cli = new SelectionSortCLI();
 
         if (args.length == 0) {
-            cli.main(new String[0]);
+            SelectionSortCLI.main(new String[0]);
             return;
         }
 
         try {
             switch (args[0].toLowerCase()) {
-            case "--benchmark" -> runBenchmarkMode(cli);
-            case "--export" -> runExportMode(cli);
+            case "--benchmark" -> runBenchmarkMode(cli, algorithms(args));
+            case "--export" -> runExportMode(cli, algorithms(args), args.length > 2 ? args[2] : DEFAULT_CSV);
+            case "--algorithm" -> runInteractiveMode(args);
             case "--info" -> cli.printAlgorithmInfo();
+            case "--serve" -> runServeMode(args);
+            case "--tune" -> runTuneMode(args);
             default -> printUsage();
             }
         } catch (Exception e) {
@@ -25,29 +39,100 @@ public final class SelectionSortRunner {
         }
     }
 
-    private static void runBenchmarkMode(SelectionSortCLI cli) {
+    // Comma-separated algorithm names in args[1], validated up front so a typo fails before any run starts.
+    private static List<String> algorithms(String[] args) {
+        if (args.length < 2) {
+            return List.of(SortAlgorithms.DEFAULT_ALGORITHM);
+        }
+        List<String> names = Arrays.stream(args[1].split(",")).map(String::trim).toList();
+        for (String name : names) {
+            if (!SortAlgorithms.isRegistered(name)) {
+                throw new IllegalArgumentException("Unknown algorithm '" + name + "'. Available: "
+                        + String.join(", ", SortAlgorithms.names()));
+            }
+        }
+        return names;
+    }
+
+    private static void runInteractiveMode(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("--algorithm requires a name");
+        }
+        SelectionSortCLI.setAlgorithm(args[1]);
+        SelectionSortCLI.main(new String[0]);
+    }
+
+    private static void runBenchmarkMode(SelectionSortCLI cli, List<String> algorithms) {
         System.out.println("Running automated benchmarks...\n");
-        cli.runBenchmarks();
+        cli.runBenchmarks(algorithms);
         System.out.println("\nBenchmark execution completed.");
     }
 
-    private static void runExportMode(SelectionSortCLI cli) throws IOException {
+    private static void runExportMode(SelectionSortCLI cli, List<String> algorithms, String filename) {
         System.out.println("Running benchmarks and exporting to CSV...\n");
-        cli.exportMetricsToCSV();
+        cli.exportMetricsToCSV(algorithms, filename);
         System.out.println("\nCSV export completed successfully.");
     }
 
+    // --tune [file]: recalibrates the crossovers and overwrites the profile loaded at startup.
+    private static void runTuneMode(String[] args) throws IOException {
+        Path path = args.length > 1 ? Path.of(args[1]) : TuningProfile.defaultPath();
+        System.out.println("Regenerating tuning profile...\n");
+        AutoTuner.regenerate(path);
+    }
+
+    // --serve [stdin|tcp:PORT|unix:PATH] [workers] [queueCapacity]. Sorted frames go to stdout in stdin
+    // mode, so all reporting goes to stderr.
+    private static void runServeMode(String[] args) throws IOException {
+        String endpoint = args.length > 1 ? args[1] : "stdin";
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = args.length > 3 ? Integer.parseInt(args[3]) : SortServer.DEFAULT_QUEUE_CAPACITY;
+
+        // The service is the long-running case the telemetry MXBean is for.
+        SortingTelemetry.register();
+        SortServer server = new SortServer(workers, queueCapacity);
+        if (endpoint.equals("stdin")) {
+            try (server) {
+                server.serve(System.in, System.out);
+            } finally {
+                System.err.println(server.getMetrics().generateReport());
+            }
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                System.err.println("Error closing server: " + e.getMessage());
+            }
+            System.err.println(server.getMetrics().generateReport());
+        }));
+        System.err.printf("Serving on %s with %d workers, queue capacity %d%n", endpoint, workers, queueCapacity);
+        server.listen(endpoint);
+    }
+
     private static void printUsage() {
         System.out.println("""
             Usage:
               java com.sorting.cli.SelectionSortRunner            - Launch interactive CLI
-              java com.sorting.cli.SelectionSortRunner --benchmark - Run automated benchmark suite
-              java com.sorting.cli.SelectionSortRunner --export    - Export benchmark results to CSV
-              java com.sorting.cli.SelectionSortRunner --info      - Print algorithm info and exit
+              java com.sorting.cli.SelectionSortRunner --algorithm NAME
+                                                                   - Launch interactive CLI with an algorithm
+              java com.sorting.cli.SelectionSortRunner --benchmark [NAME,...]
+                                                                   - Run automated benchmark suite
+              java com.sorting.cli.SelectionSortRunner --export [NAME,...] [file]
+                                                                   - Export benchmark results to CSV
+              java com.sorting.cli.SelectionSortRunner --info      - List registered algorithms and exit
+              java com.sorting.cli.SelectionSortRunner --tune [file]
+                                                                   - Recalibrate crossovers and rewrite the profile
+              java com.sorting.cli.SelectionSortRunner --serve [stdin|tcp:PORT|unix:PATH] [workers] [queue]
+                                                                   - Sort length-prefixed int frames
             Examples:
               java com.sorting.cli.SelectionSortRunner
               java com.sorting.cli.SelectionSortRunner --benchmark
-              java com.sorting.cli.SelectionSortRunner --export
+              java com.sorting.cli.SelectionSortRunner --export "Selection Sort,Counting/Radix Sort" results.csv
+              java com.sorting.cli.SelectionSortRunner --serve tcp:9090 4 512
+              java com.sorting.cli.SelectionSortRunner --tune
             """);
     }
 }
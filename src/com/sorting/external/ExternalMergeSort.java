@@ -0,0 +1,320 @@
+package com.sorting.external;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.metrics.SortingMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Sorts streams of little-endian 32-bit ints that do not fit in memory. Input is read in runs sized
+// from the memory budget, each run is sorted in memory by a SelectionSort (runs above a few hundred
+// elements go to its heapsort strategy) and spilled to a temp file, and the runs are k-way merged through a
+// primitive min-heap. Run files beyond the merge fan-in are merged in intermediate passes.
+public class ExternalMergeSort {
+
+    public static final long DEFAULT_MEMORY_BUDGET = 128L * 1024 * 1024;
+    public static final int DEFAULT_MERGE_FAN_IN = 128;
+
+    static final String PHASE_RUN_GENERATION = "Run generation";
+    static final String PHASE_SPILL = "Spill I/O";
+    static final String PHASE_MERGE = "Merge";
+
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+    private static final int MIN_MERGE_BUFFER_BYTES = 64 * 1024;
+    private static final int RUN_SELECTION_LIMIT = 256;
+
+    private final long memoryBudget;
+    private final int mergeFanIn;
+    private final Path tempDirectory;
+    private final SelectionSort runSorter;
+    private final SortingMetrics metrics = new SortingMetrics();
+
+    public ExternalMergeSort() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    public ExternalMergeSort(long memoryBudget) {
+        this(memoryBudget, DEFAULT_MERGE_FAN_IN, null);
+    }
+
+    public ExternalMergeSort(long memoryBudget, int mergeFanIn, Path tempDirectory) {
+        if (memoryBudget < 4L * IO_BUFFER_BYTES) {
+            throw new IllegalArgumentException(
+                    String.format("Memory budget must be at least %d bytes, got %d", 4L * IO_BUFFER_BYTES, memoryBudget));
+        }
+        if (mergeFanIn < 2) {
+            throw new IllegalArgumentException("Merge fan-in must be at least 2, got " + mergeFanIn);
+        }
+        this.memoryBudget = memoryBudget;
+        this.mergeFanIn = mergeFanIn;
+        this.tempDirectory = tempDirectory;
+        this.runSorter = new SelectionSort(true);
+        this.runSorter.setStrategyThreshold(RUN_SELECTION_LIMIT);
+    }
+
+    public void sort(Path input, Path output) throws IOException {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output paths cannot be null");
+        }
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            sort(in, out);
+        }
+    }
+
+    public void sort(InputStream input, OutputStream output) throws IOException {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output streams cannot be null");
+        }
+        sort(Channels.newChannel(input), Channels.newChannel(output));
+        output.flush();
+    }
+
+    public void sort(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        metrics.beginRun();
+        List<Path> runs = new ArrayList<>();
+
+        try {
+            int[] run = new int[runCapacity()];
+            ByteBuffer ioBuffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer spillBuffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ioBuffer.flip();
+            metrics.incrementMemoryAllocations((long) run.length * Integer.BYTES + 2L * IO_BUFFER_BYTES);
+
+            while (true) {
+                long phaseStart = System.nanoTime();
+                int count = readInts(input, ioBuffer, run);
+                if (count == 0) {
+                    metrics.recordPhase(PHASE_RUN_GENERATION, System.nanoTime() - phaseStart);
+                    break;
+                }
+                int[] sorted = count == run.length ? run : Arrays.copyOf(run, count);
+                runSorter.sort(sorted);
+                metrics.merge(runSorter.getMetrics());
+                metrics.recordPhase(PHASE_RUN_GENERATION, System.nanoTime() - phaseStart);
+
+                phaseStart = System.nanoTime();
+                if (runs.isEmpty() && count < run.length) {
+                    // Everything fit in one run: write it straight to the output.
+                    writeInts(output, spillBuffer, sorted, count);
+                    metrics.recordPhase(PHASE_SPILL, System.nanoTime() - phaseStart);
+                    return;
+                }
+                runs.add(spill(spillBuffer, sorted, count));
+                metrics.recordPhase(PHASE_SPILL, System.nanoTime() - phaseStart);
+
+                if (count < run.length) {
+                    break;
+                }
+            }
+
+            long phaseStart = System.nanoTime();
+            while (runs.size() > mergeFanIn) {
+                List<Path> group = new ArrayList<>(runs.subList(0, mergeFanIn));
+                runs.subList(0, mergeFanIn).clear();
+                // Track the output before merging so the outer finally removes it if the merge fails.
+                Path merged = createRunFile();
+                runs.add(merged);
+                try (FileChannel out = FileChannel.open(merged, StandardOpenOption.WRITE)) {
+                    merge(group, out);
+                } finally {
+                    deleteAll(group);
+                }
+            }
+            merge(runs, output);
+            metrics.recordPhase(PHASE_MERGE, System.nanoTime() - phaseStart);
+        } finally {
+            deleteAll(runs);
+            metrics.endRun();
+        }
+    }
+
+    public SortingMetrics getMetrics() {
+        return metrics;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    // Half of the budget holds the run; the rest covers I/O buffers and the merge readers.
+    int runCapacity() {
+        long ints = (memoryBudget / 2) / Integer.BYTES;
+        return (int) Math.min(ints, Integer.MAX_VALUE - 8);
+    }
+
+    private Path spill(ByteBuffer buffer, int[] values, int count) throws IOException {
+        Path file = createRunFile();
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            writeInts(out, buffer, values, count);
+        }
+        return file;
+    }
+
+    private Path createRunFile() throws IOException {
+        return tempDirectory == null
+                ? Files.createTempFile("external-sort-run", ".bin")
+                : Files.createTempFile(tempDirectory, "external-sort-run", ".bin");
+    }
+
+    private void merge(List<Path> runs, WritableByteChannel output) throws IOException {
+        int k = runs.size();
+        int bufferBytes = (int) Math.max(MIN_MERGE_BUFFER_BYTES,
+                Math.min(IO_BUFFER_BYTES, (memoryBudget / 2) / (k + 1)));
+        bufferBytes -= bufferBytes % Integer.BYTES;
+
+        List<FileChannel> channels = new ArrayList<>(k);
+        try {
+            ByteBuffer[] buffers = new ByteBuffer[k];
+            int[] heads = new int[k];
+            int[] heap = new int[k];
+            int heapSize = 0;
+
+            for (int r = 0; r < k; r++) {
+                channels.add(FileChannel.open(runs.get(r), StandardOpenOption.READ));
+                buffers[r] = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+                buffers[r].flip();
+                if (refill(channels.get(r), buffers[r])) {
+                    heads[r] = buffers[r].getInt();
+                    heap[heapSize++] = r;
+                }
+            }
+            // Run buffers, output buffer and the (value, run) heap.
+            metrics.incrementMemoryAllocations((long) (k + 1) * bufferBytes + 2L * k * Integer.BYTES);
+
+            long comparisons = 0;
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                comparisons += siftDown(heap, heads, i, heapSize);
+            }
+
+            ByteBuffer out = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            while (heapSize > 0) {
+                int r = heap[0];
+                if (!out.hasRemaining()) {
+                    drain(output, out);
+                }
+                out.putInt(heads[r]);
+
+                if (buffers[r].hasRemaining() || refill(channels.get(r), buffers[r])) {
+                    heads[r] = buffers[r].getInt();
+                } else {
+                    heap[0] = heap[--heapSize];
+                }
+                if (heapSize > 1) {
+                    comparisons += siftDown(heap, heads, 0, heapSize);
+                }
+            }
+            drain(output, out);
+
+            metrics.incrementComparisons(comparisons);
+            metrics.incrementArrayAccess(2 * comparisons);
+        } finally {
+            for (FileChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    private static long siftDown(int[] heap, int[] heads, int root, int size) {
+        long comparisons = 0;
+        int parent = root;
+        int child = 2 * parent + 1;
+
+        while (child < size) {
+            if (child + 1 < size) {
+                comparisons++;
+                if (heads[heap[child + 1]] < heads[heap[child]]) {
+                    child++;
+                }
+            }
+            comparisons++;
+            if (heads[heap[child]] >= heads[heap[parent]]) {
+                break;
+            }
+            int temp = heap[parent];
+            heap[parent] = heap[child];
+            heap[child] = temp;
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        return comparisons;
+    }
+
+    // Fills values from the channel through the buffer; returns how many ints were read (0 at end of input).
+    private static int readInts(ReadableByteChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        int count = 0;
+        while (count < values.length) {
+            if (buffer.remaining() < Integer.BYTES && !refill(channel, buffer)) {
+                break;
+            }
+            int available = Math.min(buffer.remaining() / Integer.BYTES, values.length - count);
+            buffer.asIntBuffer().get(values, count, available);
+            buffer.position(buffer.position() + available * Integer.BYTES);
+            count += available;
+        }
+        return count;
+    }
+
+    // Compacts any partial int and reads more bytes; returns false once no whole int is left.
+    private static boolean refill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.compact();
+        try {
+            while (buffer.position() < Integer.BYTES) {
+                if (channel.read(buffer) < 0) {
+                    if (buffer.position() != 0) {
+                        throw new IOException("Input length is not a multiple of " + Integer.BYTES + " bytes");
+                    }
+                    return false;
+                }
+            }
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // keep filling while data is immediately available
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+
+    private static void writeInts(WritableByteChannel channel, ByteBuffer buffer, int[] values, int count)
+            throws IOException {
+        int perBuffer = buffer.capacity() / Integer.BYTES;
+        for (int offset = 0; offset < count; offset += perBuffer) {
+            int length = Math.min(perBuffer, count - offset);
+            buffer.clear();
+            buffer.asIntBuffer().put(values, offset, length);
+            buffer.limit(length * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.sorting.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Metrics that one sorter can share across threads. Counters are striped LongAdders, so the hot path
+// takes no lock, and values accumulate across sort calls until reset() instead of restarting per call.
+// Elapsed time is the sum of all runs. Counters are read one at a time, so snapshot() is consistent only
+// when no sort is running; taken mid-run it can mix counters from different moments.
+public class ConcurrentSortingMetrics extends SortingMetrics {
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder memoryAllocations = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final Map<String, LongAdder> phaseTimes = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> runStart = ThreadLocal.withInitial(() -> new long[1]);
+    private volatile SortMode mode = SortMode.STANDARD;
+
+    @Override
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+        arrayAccesses.reset();
+        iterations.reset();
+        memoryAllocations.reset();
+        moves.reset();
+        runs.reset();
+        elapsedNanos.reset();
+        phaseTimes.clear();
+        mode = SortMode.STANDARD;
+    }
+
+    @Override
+    public void beginRun() {
+        startTiming();
+    }
+
+    @Override
+    public void endRun() {
+        stopTiming();
+    }
+
+    @Override
+    public void startTiming() {
+        runStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void stopTiming() {
+        elapsedNanos.add(System.nanoTime() - runStart.get()[0]);
+        runs.increment();
+    }
+
+    @Override
+    public long getElapsedTimeNanos() {
+        return elapsedNanos.sum();
+    }
+
+    @Override
+    public void incrementComparisons() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    @Override
+    public void incrementSwaps() {
+        swaps.increment();
+    }
+
+    @Override
+    public void incrementSwaps(long count) {
+        swaps.add(count);
+    }
+
+    @Override
+    public void incrementArrayAccess() {
+        arrayAccesses.increment();
+    }
+
+    @Override
+    public void incrementArrayAccess(long count) {
+        arrayAccesses.add(count);
+    }
+
+    @Override
+    public void incrementIterations() {
+        iterations.increment();
+    }
+
+    @Override
+    public void incrementIterations(long count) {
+        iterations.add(count);
+    }
+
+    @Override
+    public void incrementMemoryAllocations(long bytes) {
+        memoryAllocations.add(bytes);
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getArrayAccesses() {
+        return arrayAccesses.sum();
+    }
+
+    @Override
+    public long getIterations() {
+        return iterations.sum();
+    }
+
+    @Override
+    public long getMemoryAllocations() {
+        return memoryAllocations.sum();
+    }
+
+    @Override
+    public void incrementMoves(long count) {
+        moves.add(count);
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    protected void addPhaseTime(String phase, long nanos) {
+        phaseTimes.computeIfAbsent(phase, key -> new LongAdder()).add(nanos);
+    }
+
+    @Override
+    public Map<String, Long> getPhaseTimes() {
+        Map<String, Long> times = new LinkedHashMap<>();
+        phaseTimes.forEach((phase, nanos) -> times.put(phase, nanos.sum()));
+        return Collections.unmodifiableMap(times);
+    }
+
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    // Counters are shared by all threads and runs, so a single run's share is unknown.
+    @Override
+    public long getRunComparisons() {
+        return -1;
+    }
+
+    @Override
+    public long getRunSwaps() {
+        return -1;
+    }
+
+    @Override
+    public SortMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void setMode(SortMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public void merge(SortingMetrics other) {
+        super.merge(other);
+        if (other instanceof ConcurrentSortingMetrics concurrent) {
+            runs.add(concurrent.getRuns());
+        }
+        elapsedNanos.add(other.getElapsedTimeNanos());
+    }
+
+    @Override
+    public SortingMetrics copy() {
+        ConcurrentSortingMetrics copy = new ConcurrentSortingMetrics();
+        copy.merge(this);
+        copy.mode = this.mode;
+        return copy;
+    }
+}
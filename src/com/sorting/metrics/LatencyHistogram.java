@@ -0,0 +1,109 @@
+package com.sorting.metrics;
+
+import java.util.Arrays;
+
+// Log-linear histogram of non-negative values (nanoseconds here), laid out as HdrHistogram does: values
+// below SUB_BUCKET_COUNT get one slot each, and every power-of-two range above that is split into
+// SUB_BUCKET_HALF linear slots. Relative error is at most 1 / SUB_BUCKET_HALF (under 1%) for any long,
+// in a fixed 57 KB array, so recording is one index computation and one increment.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+    private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative, got " + value);
+        }
+
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    // Slot b * SUB_BUCKET_HALF + (value >>> b), where b is the power-of-two range above the exact slots.
+    static int indexOf(long value) {
+        int shift = Math.max(0, (Long.SIZE - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    // The largest value that maps to the same slot as index.
+    static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, index / SUB_BUCKET_HALF - 1);
+        long lowest = (long) (index - shift * SUB_BUCKET_HALF) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    // Smallest recorded value v (to slot precision) such that percentile% of the recorded values are <= v.
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%d p99=%d p999=%d max=%d",
+                totalCount, getValueAtPercentile(50), getValueAtPercentile(99), getValueAtPercentile(99.9), max);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sorting.metrics;
+
+public record MetricsSnapshot(long comparisons, long swaps, long arrayAccesses, long iterations,
+                              long memoryAllocations, long moves, SortMode mode, long elapsedTimeNanos) {
+
+    public double elapsedTimeMillis() {
+        return elapsedTimeNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("C:%d S:%d A:%d I:%d T:%.3fms",
+                comparisons, swaps, arrayAccesses, iterations, elapsedTimeMillis());
+    }
+}
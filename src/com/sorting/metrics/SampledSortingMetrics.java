@@ -0,0 +1,325 @@
+package com.sorting.metrics;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+// Metrics that instrument a random 1 in sampleRate sort calls and extrapolate totals over all calls, for
+// production use where exact counting on every call costs too much. Pass one to SelectionSort(SortingMetrics):
+// its entry points ask shouldSample first and run the uninstrumented kernel for skipped calls, and sampled
+// calls run the same kernel (sorting networks included) so they stand for the skipped ones. Sorters that
+// begin runs without asking are always recorded, in the "unsized" bucket.
+// Calls are stratified by array size into power-of-two buckets, because cost grows with n and mixing sizes
+// would inflate the variance. Each bucket's total is calls x sampled mean, with a 95% error bound from the
+// sample variance and the finite-population correction. Each bucket also feeds a LatencyHistogram of the
+// sampled calls. Getters return the extrapolated totals. Like SortingMetrics, this is not thread-safe.
+public class SampledSortingMetrics extends SortingMetrics {
+
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    private static final double Z_95 = 1.96;
+    private static final int UNSIZED = -1;
+    private static final int NO_RUN = Integer.MIN_VALUE;
+
+    private static final int COMPARISONS = 0;
+    private static final int SWAPS = 1;
+    private static final int ARRAY_ACCESSES = 2;
+    private static final int ITERATIONS = 3;
+    private static final int MEMORY_ALLOCATIONS = 4;
+    private static final int MOVES = 5;
+    private static final int ELAPSED_NANOS = 6;
+    private static final int COUNTERS = 7;
+
+    public record Estimate(long value, long errorBound) {
+
+        @Override
+        public String toString() {
+            return String.format("%,d ± %,d", value, errorBound);
+        }
+    }
+
+    private final int sampleRate;
+    private final SplittableRandom random;
+    private final Map<Integer, SizeBucket> buckets = new TreeMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private int pendingBucket = NO_RUN;
+
+    public SampledSortingMetrics() {
+        this(DEFAULT_SAMPLE_RATE);
+    }
+
+    public SampledSortingMetrics(int sampleRate) {
+        this(sampleRate, new SplittableRandom().nextLong());
+    }
+
+    // A fixed seed makes the sampled calls reproducible.
+    public SampledSortingMetrics(int sampleRate, long seed) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Sample rate must be positive, got " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.random = new SplittableRandom(seed);
+    }
+
+    private static final class SizeBucket {
+
+        private long calls;
+        private long sampled;
+        private final long[] sums = new long[COUNTERS];
+        private final double[] squares = new double[COUNTERS];
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    // Counts the call and decides whether it is instrumented; a true result must be followed by one run.
+    // The first call of each size bucket is always sampled, so no bucket's calls drop out of the totals.
+    @Override
+    public boolean shouldSample(int arraySize) {
+        int key = sizeBucket(arraySize);
+        SizeBucket bucket = bucket(key);
+        bucket.calls++;
+        if (bucket.sampled > 0 && sampleRate > 1 && random.nextInt(sampleRate) != 0) {
+            return false;
+        }
+        pendingBucket = key;
+        return true;
+    }
+
+    @Override
+    public boolean isSampling() {
+        return true;
+    }
+
+    // Bucket b holds sizes in (2^(b-1), 2^b].
+    private static int sizeBucket(int arraySize) {
+        return arraySize <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(arraySize - 1);
+    }
+
+    private SizeBucket bucket(int key) {
+        return buckets.computeIfAbsent(key, k -> new SizeBucket());
+    }
+
+    // Restarts the per-run counters only; reset() clears the accumulated samples.
+    @Override
+    public void beginRun() {
+        if (pendingBucket == NO_RUN) {
+            pendingBucket = UNSIZED;
+            bucket(UNSIZED).calls++;
+        }
+        super.reset();
+        startTiming();
+    }
+
+    @Override
+    public void endRun() {
+        stopTiming();
+        if (pendingBucket == NO_RUN) {
+            return;
+        }
+
+        SizeBucket bucket = bucket(pendingBucket);
+        pendingBucket = NO_RUN;
+        long elapsed = super.getElapsedTimeNanos();
+        long[] values = {
+                super.getComparisons(), super.getSwaps(), super.getArrayAccesses(), super.getIterations(),
+                super.getMemoryAllocations(), super.getMoves(), elapsed
+        };
+        bucket.sampled++;
+        for (int c = 0; c < COUNTERS; c++) {
+            bucket.sums[c] += values[c];
+            bucket.squares[c] += (double) values[c] * values[c];
+        }
+        bucket.latency.record(elapsed);
+        latency.record(elapsed);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        buckets.clear();
+        latency.reset();
+        pendingBucket = NO_RUN;
+    }
+
+    // Stratified estimate: the sum over buckets of calls x mean, with the bucket variances added up.
+    // A bucket with one sample has no variance estimate, so its whole extrapolated share counts as error.
+    private Estimate estimate(int counter) {
+        double total = 0;
+        double variance = 0;
+        double unbounded = 0;
+
+        for (SizeBucket bucket : buckets.values()) {
+            if (bucket.sampled == 0) {
+                continue;
+            }
+            double k = bucket.sampled;
+            double n = bucket.calls;
+            double mean = bucket.sums[counter] / k;
+            total += n * mean;
+            if (k == n) {
+                continue;
+            }
+            if (k < 2) {
+                unbounded += n * mean;
+                continue;
+            }
+            double sampleVariance = Math.max(0, (bucket.squares[counter] - k * mean * mean) / (k - 1));
+            variance += n * n * sampleVariance / k * ((n - k) / (n - 1));
+        }
+
+        return new Estimate(Math.round(total), Math.round(Z_95 * Math.sqrt(variance) + unbounded));
+    }
+
+    public Estimate estimateComparisons() {
+        return estimate(COMPARISONS);
+    }
+
+    public Estimate estimateSwaps() {
+        return estimate(SWAPS);
+    }
+
+    public Estimate estimateArrayAccesses() {
+        return estimate(ARRAY_ACCESSES);
+    }
+
+    public Estimate estimateElapsedNanos() {
+        return estimate(ELAPSED_NANOS);
+    }
+
+    @Override
+    public long getComparisons() {
+        return estimate(COMPARISONS).value();
+    }
+
+    @Override
+    public long getSwaps() {
+        return estimate(SWAPS).value();
+    }
+
+    @Override
+    public long getArrayAccesses() {
+        return estimate(ARRAY_ACCESSES).value();
+    }
+
+    @Override
+    public long getIterations() {
+        return estimate(ITERATIONS).value();
+    }
+
+    @Override
+    public long getMemoryAllocations() {
+        return estimate(MEMORY_ALLOCATIONS).value();
+    }
+
+    @Override
+    public long getMoves() {
+        return estimate(MOVES).value();
+    }
+
+    @Override
+    public long getElapsedTimeNanos() {
+        return estimate(ELAPSED_NANOS).value();
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getCalls() {
+        long calls = 0;
+        for (SizeBucket bucket : buckets.values()) {
+            calls += bucket.calls;
+        }
+        return calls;
+    }
+
+    public long getSampledCalls() {
+        return latency.getTotalCount();
+    }
+
+    // Latency of the sampled calls across all sizes.
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    // Latency of the sampled calls whose size fell in the same power-of-two bucket as arraySize.
+    public LatencyHistogram getLatency(int arraySize) {
+        SizeBucket bucket = buckets.get(sizeBucket(arraySize));
+        return bucket == null ? new LatencyHistogram() : bucket.latency;
+    }
+
+    private static String bucketLabel(int key) {
+        if (key == UNSIZED) {
+            return "unsized";
+        }
+        return key == 0 ? "<= 1" : String.format("<= %,d", 1L << key);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public String generateReport() {
+        Estimate elapsed = estimateElapsedNanos();
+
+        StringBuilder report = new StringBuilder();
+        report.append("====== Sampled Sorting Metrics Report ======\n");
+        report.append(String.format("Sample Rate:        1 in %,d (%,d of %,d calls sampled)\n",
+                sampleRate, getSampledCalls(), getCalls()));
+        report.append(String.format("Comparisons:        %s\n", estimateComparisons()));
+        report.append(String.format("Swaps:              %s\n", estimateSwaps()));
+        report.append(String.format("Array Accesses:     %s\n", estimateArrayAccesses()));
+        report.append(String.format("Iterations:         %s\n", estimate(ITERATIONS)));
+        report.append(String.format("Memory Allocated:   %s bytes\n", estimate(MEMORY_ALLOCATIONS)));
+        report.append(String.format("Elapsed Time:       %.3f ± %.3f ms\n",
+                millis(elapsed.value()), millis(elapsed.errorBound())));
+        report.append("Latency of sampled calls (ms):\n");
+        report.append(String.format("  %-14s %10s %8s %10s %10s %10s %10s\n",
+                "Size", "Calls", "Sampled", "p50", "p99", "p999", "Max"));
+        for (Map.Entry<Integer, SizeBucket> entry : buckets.entrySet()) {
+            SizeBucket bucket = entry.getValue();
+            report.append(String.format("  %-14s %,10d %,8d %s\n",
+                    bucketLabel(entry.getKey()), bucket.calls, bucket.sampled, percentiles(bucket.latency)));
+        }
+        report.append(String.format("  %-14s %,10d %,8d %s\n", "all", getCalls(), getSampledCalls(),
+                percentiles(latency)));
+        report.append("============================================");
+        return report.toString();
+    }
+
+    private static String percentiles(LatencyHistogram histogram) {
+        return String.format("%10.3f %10.3f %10.3f %10.3f",
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMax()));
+    }
+
+    // The SortingMetrics columns as extrapolated totals, then error bounds and overall latency percentiles.
+    @Override
+    public String toCSV() {
+        return String.format("%s,%d,%d,%d,%d,%d,%.6f,%.6f,%.6f",
+                super.toCSV(), estimateComparisons().errorBound(), estimateSwaps().errorBound(),
+                getCalls(), getSampledCalls(), sampleRate,
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)));
+    }
+
+    public static String getSampledCSVHeader() {
+        return getCSVHeader() + ",ComparisonsError,SwapsError,Calls,SampledCalls,SampleRate,P50Millis,P99Millis,"
+                + "P999Millis";
+    }
+
+    // One row per size bucket: Bucket,Calls,Sampled,P50Millis,P99Millis,P999Millis,MaxMillis.
+    public String toBucketCSV() {
+        StringBuilder csv = new StringBuilder("Bucket,Calls,Sampled,P50Millis,P99Millis,P999Millis,MaxMillis\n");
+        for (Map.Entry<Integer, SizeBucket> entry : buckets.entrySet()) {
+            SizeBucket bucket = entry.getValue();
+            LatencyHistogram histogram = bucket.latency;
+            csv.append(String.format("%s,%d,%d,%.6f,%.6f,%.6f,%.6f\n",
+                    entry.getKey() == UNSIZED ? "unsized" : Long.toString(1L << entry.getKey()),
+                    bucket.calls, bucket.sampled,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMax())));
+        }
+        return csv.toString();
+    }
+}
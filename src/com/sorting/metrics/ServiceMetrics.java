@@ -0,0 +1,104 @@
+package com.sorting.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Throughput and queue-latency counters for the batch sorting service. Worker threads record into
+// striped adders, so readers may sample while requests are in flight.
+public class ServiceMetrics {
+
+    private final LongAdder arraysSorted = new LongAdder();
+    private final LongAdder elementsSorted = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder sortNanos = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private volatile long startNanos = System.nanoTime();
+
+    public void reset() {
+        arraysSorted.reset();
+        elementsSorted.reset();
+        queueWaitNanos.reset();
+        maxQueueWaitNanos.reset();
+        sortNanos.reset();
+        connections.reset();
+        startNanos = System.nanoTime();
+    }
+
+    // Time from a frame being read off the wire to a worker picking it up.
+    public void recordQueueWait(long nanos) {
+        queueWaitNanos.add(nanos);
+        maxQueueWaitNanos.accumulate(nanos);
+    }
+
+    public void recordSorted(int elements, long nanos) {
+        arraysSorted.increment();
+        elementsSorted.add(elements);
+        sortNanos.add(nanos);
+    }
+
+    public void recordConnection() {
+        connections.increment();
+    }
+
+    public long getArraysSorted() {
+        return arraysSorted.sum();
+    }
+
+    public long getElementsSorted() {
+        return elementsSorted.sum();
+    }
+
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    public double getUptimeSeconds() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    public double getArraysPerSecond() {
+        double seconds = getUptimeSeconds();
+        return seconds > 0 ? getArraysSorted() / seconds : 0;
+    }
+
+    public double getElementsPerSecond() {
+        double seconds = getUptimeSeconds();
+        return seconds > 0 ? getElementsSorted() / seconds : 0;
+    }
+
+    public double getAverageQueueLatencyMillis() {
+        long arrays = getArraysSorted();
+        return arrays > 0 ? queueWaitNanos.sum() / (arrays * 1_000_000.0) : 0;
+    }
+
+    public double getMaxQueueLatencyMillis() {
+        return maxQueueWaitNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageSortTimeMillis() {
+        long arrays = getArraysSorted();
+        return arrays > 0 ? sortNanos.sum() / (arrays * 1_000_000.0) : 0;
+    }
+
+    public String generateReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("====== Sort Service Report ======\n");
+        report.append(String.format("Connections:        %,d\n", getConnections()));
+        report.append(String.format("Arrays Sorted:      %,d\n", getArraysSorted()));
+        report.append(String.format("Elements Sorted:    %,d\n", getElementsSorted()));
+        report.append(String.format("Arrays/sec:         %,.1f\n", getArraysPerSecond()));
+        report.append(String.format("Elements/sec:       %,.1f\n", getElementsPerSecond()));
+        report.append(String.format("Avg Queue Latency:  %.3f ms\n", getAverageQueueLatencyMillis()));
+        report.append(String.format("Max Queue Latency:  %.3f ms\n", getMaxQueueLatencyMillis()));
+        report.append(String.format("Avg Sort Time:      %.3f ms\n", getAverageSortTimeMillis()));
+        report.append("=================================");
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ServiceMetrics[arrays=%d, arrays/s=%.1f, avgQueue=%.3fms]",
+                getArraysSorted(), getArraysPerSecond(), getAverageQueueLatencyMillis());
+    }
+}
@@ -0,0 +1,39 @@
+package com.sorting.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// One JFR event per sort call, timed by the event itself. Counters are filled in only for instrumented
+// calls; -1 means the metrics instance does not keep them per call (ConcurrentSortingMetrics).
+// Emitted through SortingTelemetry, which does nothing beyond an empty begin/end unless a recording is on.
+@Name("com.sorting.Sort")
+@Label("Sort")
+@Category({"Sorting"})
+@Description("A sort call on an int array")
+public class SortEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Array Size")
+    int arraySize;
+
+    @Label("Instrumented")
+    @Description("Whether sorting metrics were collected for this call")
+    boolean instrumented;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Swaps")
+    long swaps;
+
+    // Not recorded (JFR skips transient fields); start of the call for the MXBean's latency histogram.
+    transient long startNanos;
+}
@@ -0,0 +1,30 @@
+package com.sorting.metrics;
+
+public enum SortMode {
+
+    STANDARD("Standard selection"),
+    BIDIRECTIONAL("Bidirectional selection"),
+    HEAP("Heap selection"),
+    PARTIAL("Partial selection (k passes)"),
+    PARTIAL_HEAP("Partial heap selection"),
+    NTH_ELEMENT("Introselect (nth element)"),
+    INCREMENTAL("Incremental selection (lazy heap)"),
+    NETWORK("Sorting network"),
+    ADAPTIVE_PRESORTED("Adaptive (already sorted)"),
+    ADAPTIVE_REVERSED("Adaptive (reversed descending run)"),
+    ADAPTIVE_INSERTION("Adaptive (insertion on nearly sorted)"),
+    STABLE("Stable selection (block shift)"),
+    STABLE_INDEX("Stable selection (index permutation)"),
+    COUNTING("Counting sort"),
+    RADIX("LSD radix sort");
+
+    private final String displayName;
+
+    SortMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
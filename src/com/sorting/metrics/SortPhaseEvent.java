@@ -0,0 +1,24 @@
+package com.sorting.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// One JFR event per SortingMetrics.recordPhase call, on the sorting thread inside its Sort event. Phases
+// are measured before they are recorded, so the time is a field rather than the event's own duration.
+@Name("com.sorting.SortPhase")
+@Label("Sort Phase")
+@Category({"Sorting"})
+@Description("A named phase inside an instrumented sort call")
+public class SortPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Phase Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long phaseTime;
+}
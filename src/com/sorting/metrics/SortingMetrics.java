@@ -1,32 +1,63 @@
 package com.sorting.metrics;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class SortingMetrics {
 
+    // Estimated size of an object reference (compressed oops, the default for heaps under 32 GB).
+    public static final int REFERENCE_BYTES = 4;
+
     private long comparisons;
     private long swaps;
     private long arrayAccesses;
     private long iterations;
     private long memoryAllocations;
+    private long moves;
+    private SortMode mode = SortMode.STANDARD;
+    private final Map<String, Long> phaseTimes = new LinkedHashMap<>();
 
     private long startTime;
     private long endTime;
     private boolean isTimingActive;
 
-    public SortingMetrics() {
-        reset();
-    }
-
     public void reset() {
         this.comparisons = 0;
         this.swaps = 0;
         this.arrayAccesses = 0;
         this.iterations = 0;
         this.memoryAllocations = 0;
+        this.moves = 0;
+        this.mode = SortMode.STANDARD;
+        this.phaseTimes.clear();
         this.startTime = 0;
         this.endTime = 0;
         this.isTimingActive = false;
     }
 
+    // Sorters call beginRun/endRun around every sort call; a single-threaded instance restarts its counters.
+    public void beginRun() {
+        reset();
+        startTiming();
+    }
+
+    public void endRun() {
+        stopTiming();
+    }
+
+    // Asked before a sort call of arraySize elements; false means the call runs uninstrumented and no run
+    // follows. Every call is instrumented here; SampledSortingMetrics instruments a random subset.
+    public boolean shouldSample(int arraySize) {
+        return true;
+    }
+
+    // True when instrumented runs stand in for uninstrumented ones, so sorters must run the same kernels
+    // in both; false when every call is counted exactly.
+    public boolean isSampling() {
+        return false;
+    }
+
     public void startTiming() {
         this.startTime = System.nanoTime();
         this.isTimingActive = true;
@@ -89,12 +120,41 @@ public class SortingMetrics {
         this.iterations += count;
     }
 
-    public void incrementMemoryAllocations() {
-        this.memoryAllocations++;
+    // Adds auxiliary memory in bytes, not a count of allocations.
+    public void incrementMemoryAllocations(long bytes) {
+        this.memoryAllocations += bytes;
     }
 
-    public void incrementMemoryAllocations(long count) {
-        this.memoryAllocations += count;
+    // Single-element writes that are not part of a swap, e.g. block shifts in the stable variant.
+    public void incrementMoves(long count) {
+        this.moves += count;
+    }
+
+    // Adds time spent in a named phase (e.g. run generation, spill I/O, merge); repeated calls accumulate.
+    // Each call is also a SortPhaseEvent when a JFR recording enables it.
+    public void recordPhase(String phase, long nanos) {
+        SortingTelemetry.phase(phase, nanos);
+        addPhaseTime(phase, nanos);
+    }
+
+    // Accumulates without emitting an event; merge uses it so merged phases are not reported twice.
+    protected void addPhaseTime(String phase, long nanos) {
+        phaseTimes.merge(phase, nanos, Long::sum);
+    }
+
+    public Map<String, Long> getPhaseTimes() {
+        return Collections.unmodifiableMap(phaseTimes);
+    }
+
+    // Adds the counters of another instance, e.g. a per-worker instance after its task has joined.
+    public void merge(SortingMetrics other) {
+        incrementComparisons(other.getComparisons());
+        incrementSwaps(other.getSwaps());
+        incrementArrayAccess(other.getArrayAccesses());
+        incrementIterations(other.getIterations());
+        incrementMemoryAllocations(other.getMemoryAllocations());
+        incrementMoves(other.getMoves());
+        other.getPhaseTimes().forEach(this::addPhaseTime);
     }
 
     // Getter methods
@@ -119,6 +179,28 @@ public class SortingMetrics {
         return memoryAllocations;
     }
 
+    public long getMoves() {
+        return moves;
+    }
+
+    // Counters of the run that just ended, for per-call telemetry. Unlike the getters these are never
+    // extrapolated (SampledSortingMetrics); -1 means the subclass does not keep per-run counters.
+    public long getRunComparisons() {
+        return comparisons;
+    }
+
+    public long getRunSwaps() {
+        return swaps;
+    }
+
+    public SortMode getMode() {
+        return mode;
+    }
+
+    public void setMode(SortMode mode) {
+        this.mode = mode;
+    }
+
     public static long theoreticalComparisons(int arraySize) {
         return (long) arraySize * (arraySize - 1) / 2;
     }
@@ -127,44 +209,99 @@ public class SortingMetrics {
         return arraySize - 1;
     }
 
+    public static long theoreticalComparisons(int arraySize, SortMode mode) {
+        switch (mode) {
+        case BIDIRECTIONAL:
+            return theoreticalBidirectionalComparisons(arraySize);
+        case HEAP:
+            return 2L * arraySize * floorLog2(arraySize) + 2L * arraySize;
+        default:
+            return theoreticalComparisons(arraySize);
+        }
+    }
+
+    public static long theoreticalMaxSwaps(int arraySize, SortMode mode) {
+        switch (mode) {
+        case BIDIRECTIONAL:
+            return 2L * (arraySize / 2);
+        case HEAP:
+            return (long) arraySize * floorLog2(arraySize) + 2L * arraySize;
+        default:
+            return theoreticalMaxSwaps(arraySize);
+        }
+    }
+
+    // k selection passes over windows of n, n-1, ..., n-k+1 elements.
+    public static long theoreticalPartialComparisons(int arraySize, int k) {
+        int passes = Math.min(k, Math.max(0, arraySize - 1));
+        return (long) passes * (2L * arraySize - passes - 1) / 2;
+    }
+
+    private static int floorLog2(int value) {
+        return value <= 1 ? 0 : 31 - Integer.numberOfLeadingZeros(value);
+    }
+
+    // Windows shrink by two per pass; a window of m elements costs 3(m-1)/2 comparisons when m is odd
+    // and 3m/2 - 2 when m is even.
+    public static long theoreticalBidirectionalComparisons(int arraySize) {
+        if (arraySize <= 1) {
+            return 0;
+        }
+        long half = arraySize / 2;
+        if (arraySize % 2 == 0) {
+            return 3 * half * (half + 1) / 2 - arraySize;
+        }
+        return 3 * half * (half + 1) / 2;
+    }
+
     public String generateReport() {
         StringBuilder report = new StringBuilder();
         report.append("====== Sorting Metrics Report ======\n");
-        report.append(String.format("Comparisons:        %,d\n", comparisons));
-        report.append(String.format("Swaps:              %,d\n", swaps));
-        report.append(String.format("Array Accesses:     %,d\n", arrayAccesses));
-        report.append(String.format("Iterations:         %,d\n", iterations));
-        report.append(String.format("Memory Allocations: %,d\n", memoryAllocations));
+        report.append(String.format("Mode:               %s\n", getMode().getDisplayName()));
+        report.append(String.format("Comparisons:        %,d\n", getComparisons()));
+        report.append(String.format("Swaps:              %,d\n", getSwaps()));
+        report.append(String.format("Element Moves:      %,d\n", getMoves()));
+        report.append(String.format("Array Accesses:     %,d\n", getArrayAccesses()));
+        report.append(String.format("Iterations:         %,d\n", getIterations()));
+        report.append(String.format("Memory Allocated:   %,d bytes\n", getMemoryAllocations()));
         report.append(String.format("Elapsed Time:       %.3f ms\n", getElapsedTimeMillis()));
+        for (Map.Entry<String, Long> phase : getPhaseTimes().entrySet()) {
+            report.append(String.format("  %-18s%.3f ms\n", phase.getKey() + ":", phase.getValue() / 1_000_000.0));
+        }
         report.append("====================================");
         return report.toString();
     }
 
     public String generateCompactReport() {
         return String.format("C:%d S:%d A:%d I:%d T:%.3fms",
-                comparisons, swaps, arrayAccesses, iterations, getElapsedTimeMillis());
+                getComparisons(), getSwaps(), getArrayAccesses(), getIterations(), getElapsedTimeMillis());
     }
 
     public String toCSV() {
         return String.format("%d,%d,%d,%d,%d,%.6f",
-                comparisons, swaps, arrayAccesses, iterations,
-                memoryAllocations, getElapsedTimeMillis());
+                getComparisons(), getSwaps(), getArrayAccesses(), getIterations(),
+                getMemoryAllocations(), getElapsedTimeMillis());
     }
 
     public static String getCSVHeader() {
-        return "Comparisons,Swaps,ArrayAccesses,Iterations,MemoryAllocations,TimeMillis";
+        return "Comparisons,Swaps,ArrayAccesses,Iterations,MemoryAllocatedBytes,TimeMillis";
     }
 
     public String compareWithTheoretical(int arraySize) {
-        long theoreticalComp = theoreticalComparisons(arraySize);
-        long theoreticalSwap = theoreticalMaxSwaps(arraySize);
+        return compareWithTheoretical(arraySize, getMode());
+    }
+
+    public String compareWithTheoretical(int arraySize, SortMode mode) {
+        long theoreticalComp = theoreticalComparisons(arraySize, mode);
+        long theoreticalSwap = theoreticalMaxSwaps(arraySize, mode);
 
         StringBuilder report = new StringBuilder();
         report.append("=== Theoretical vs Actual ===\n");
+        report.append(String.format("Mode: %s\n", mode.getDisplayName()));
         report.append(String.format("Comparisons - Theoretical: %,d, Actual: %,d, Diff: %+d\n",
-                theoreticalComp, comparisons, comparisons - theoreticalComp));
+                theoreticalComp, getComparisons(), getComparisons() - theoreticalComp));
         report.append(String.format("Max Swaps   - Theoretical: %,d, Actual: %,d, Diff: %+d\n",
-                theoreticalSwap, swaps, swaps - theoreticalSwap));
+                theoreticalSwap, getSwaps(), getSwaps() - theoreticalSwap));
         report.append("=============================");
 
         return report.toString();
@@ -175,6 +312,12 @@ public class SortingMetrics {
         return generateCompactReport();
     }
 
+    // Reads each counter once. Not atomic: only consistent while no run is updating this instance.
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(getComparisons(), getSwaps(), getArrayAccesses(), getIterations(),
+                getMemoryAllocations(), getMoves(), getMode(), getElapsedTimeNanos());
+    }
+
     public SortingMetrics copy() {
         SortingMetrics copy = new SortingMetrics();
         copy.comparisons = this.comparisons;
@@ -182,6 +325,9 @@ public class SortingMetrics {
         copy.arrayAccesses = this.arrayAccesses;
         copy.iterations = this.iterations;
         copy.memoryAllocations = this.memoryAllocations;
+        copy.moves = this.moves;
+        copy.mode = this.mode;
+        copy.phaseTimes.putAll(this.phaseTimes);
         copy.startTime = this.startTime;
         copy.endTime = this.endTime;
         copy.isTimingActive = this.isTimingActive && this.comparisons > 0;
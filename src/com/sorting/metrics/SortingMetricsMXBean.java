@@ -0,0 +1,39 @@
+package com.sorting.metrics;
+
+// Live sorter telemetry for JMX clients (jconsole, VisualVM, a Prometheus JMX exporter). Registered as
+// SortingTelemetry.OBJECT_NAME by SortingTelemetry.register(). Counters accumulate over every sort call
+// since registration or the last reset(); comparisons and swaps only over instrumented calls.
+public interface SortingMetricsMXBean {
+
+    long getSortCount();
+
+    long getInstrumentedSortCount();
+
+    long getElementsSorted();
+
+    long getComparisons();
+
+    long getSwaps();
+
+    double getTotalTimeMillis();
+
+    double getUptimeSeconds();
+
+    double getSortsPerSecond();
+
+    double getElementsPerSecond();
+
+    double getComparisonsPerSecond();
+
+    double getMeanLatencyMillis();
+
+    double getLatencyP50Millis();
+
+    double getLatencyP99Millis();
+
+    double getLatencyP999Millis();
+
+    double getMaxLatencyMillis();
+
+    void reset();
+}
@@ -0,0 +1,240 @@
+package com.sorting.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-call telemetry for long-running JVMs: the sorters wrap every sort call in begin/end, which emits a
+// SortEvent to JFR and feeds the SortingMetricsMXBean registered by register().
+// With no recording running, JFR leaves SortEvent's begin/end/shouldCommit empty and the JIT removes the
+// event allocation, so the unregistered, unrecorded path is one volatile read per call. The MXBean takes
+// one nanoTime pair and a short lock on the latency histogram per call, so it is opt-in.
+public final class SortingTelemetry implements SortingMetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.sorting:type=SortingMetrics";
+
+    private static final SortingTelemetry INSTANCE = new SortingTelemetry();
+    private static volatile boolean registered;
+
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder instrumentedSorts = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile long since = System.nanoTime();
+
+    private SortingTelemetry() {
+    }
+
+    public static SortingTelemetry getInstance() {
+        return INSTANCE;
+    }
+
+    // Registers the MXBean with the platform MBean server and starts feeding it; repeated calls are no-ops.
+    public static synchronized SortingTelemetry register() {
+        if (!registered) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(INSTANCE, name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+            }
+            INSTANCE.reset();
+            registered = true;
+        }
+        return INSTANCE;
+    }
+
+    public static synchronized void unregister() {
+        if (!registered) {
+            return;
+        }
+        registered = false;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    public static boolean isRegistered() {
+        return registered;
+    }
+
+    public static SortEvent begin() {
+        SortEvent event = new SortEvent();
+        if (registered) {
+            event.startNanos = System.nanoTime();
+        }
+        event.begin();
+        return event;
+    }
+
+    // metrics is the instance that recorded this call, or null when the call ran uninstrumented.
+    public static void end(SortEvent event, String algorithm, int arraySize, SortingMetrics metrics) {
+        event.end();
+        if (registered) {
+            INSTANCE.record(System.nanoTime() - event.startNanos, arraySize, metrics);
+        }
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.arraySize = arraySize;
+            event.instrumented = metrics != null;
+            if (metrics != null) {
+                event.mode = metrics.getMode().getDisplayName();
+                event.comparisons = metrics.getRunComparisons();
+                event.swaps = metrics.getRunSwaps();
+            }
+            event.commit();
+        }
+    }
+
+    // Called by SortingMetrics.recordPhase.
+    static void phase(String phase, long nanos) {
+        SortPhaseEvent event = new SortPhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase;
+            event.phaseTime = nanos;
+            event.commit();
+        }
+    }
+
+    private void record(long nanos, int arraySize, SortingMetrics metrics) {
+        sorts.increment();
+        elements.add(arraySize);
+        totalNanos.add(nanos);
+        if (metrics != null) {
+            instrumentedSorts.increment();
+            long runComparisons = metrics.getRunComparisons();
+            long runSwaps = metrics.getRunSwaps();
+            if (runComparisons >= 0) {
+                comparisons.add(runComparisons);
+            }
+            if (runSwaps >= 0) {
+                swaps.add(runSwaps);
+            }
+        }
+        synchronized (latency) {
+            latency.record(nanos);
+        }
+    }
+
+    @Override
+    public long getSortCount() {
+        return sorts.sum();
+    }
+
+    @Override
+    public long getInstrumentedSortCount() {
+        return instrumentedSorts.sum();
+    }
+
+    @Override
+    public long getElementsSorted() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public double getTotalTimeMillis() {
+        return millis(totalNanos.sum());
+    }
+
+    @Override
+    public double getUptimeSeconds() {
+        return (System.nanoTime() - since) / 1_000_000_000.0;
+    }
+
+    @Override
+    public double getSortsPerSecond() {
+        return perSecond(getSortCount());
+    }
+
+    @Override
+    public double getElementsPerSecond() {
+        return perSecond(getElementsSorted());
+    }
+
+    @Override
+    public double getComparisonsPerSecond() {
+        return perSecond(getComparisons());
+    }
+
+    private double perSecond(long count) {
+        double seconds = getUptimeSeconds();
+        return seconds > 0 ? count / seconds : 0;
+    }
+
+    @Override
+    public double getMeanLatencyMillis() {
+        synchronized (latency) {
+            return latency.getMean() / 1_000_000.0;
+        }
+    }
+
+    @Override
+    public double getLatencyP50Millis() {
+        return percentileMillis(50);
+    }
+
+    @Override
+    public double getLatencyP99Millis() {
+        return percentileMillis(99);
+    }
+
+    @Override
+    public double getLatencyP999Millis() {
+        return percentileMillis(99.9);
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+        synchronized (latency) {
+            return millis(latency.getMax());
+        }
+    }
+
+    private double percentileMillis(double percentile) {
+        synchronized (latency) {
+            return millis(latency.getValueAtPercentile(percentile));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public void reset() {
+        sorts.reset();
+        instrumentedSorts.reset();
+        elements.reset();
+        comparisons.reset();
+        swaps.reset();
+        totalNanos.reset();
+        synchronized (latency) {
+            latency.reset();
+        }
+        since = System.nanoTime();
+    }
+}
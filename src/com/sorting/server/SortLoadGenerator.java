@@ -0,0 +1,122 @@
+package com.sorting.server;
+
+import com.sorting.benchmark.algoritm.InputDistribution;
+import com.sorting.validation.InputValidator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Random;
+
+// Local load generator for SortServer: pipelines a fixed number of random arrays per batch size over one
+// connection and reports arrays per second end to end. Usage:
+//   java com.sorting.server.SortLoadGenerator tcp:9090 [arraysPerSize] [size ...]
+public final class SortLoadGenerator {
+
+    private static final int[] DEFAULT_SIZES = {16, 128, 1_024, 8_192};
+
+    private SortLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: SortLoadGenerator tcp:PORT|unix:PATH [arraysPerSize] [size ...]");
+            return;
+        }
+
+        int arrays = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 2) {
+            sizes = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                sizes[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%-10s %12s %14s%n", "ArraySize", "Arrays/sec", "Elements/sec");
+        for (int size : sizes) {
+            double seconds = run(args[0], arrays, size);
+            System.out.printf("%-10d %,12.1f %,14.1f%n", size, arrays / seconds, (double) arrays * size / seconds);
+        }
+    }
+
+    // Returns the wall time in seconds from the first frame sent to the last response verified.
+    public static double run(String endpoint, int arrays, int size) throws IOException, InterruptedException {
+        InputValidator.validatePositive(arrays, "Array count");
+        InputValidator.validateNonNegative(size, "Array size");
+
+        int[] source = InputDistribution.RANDOM.generate(size, new Random(42));
+        try (SocketChannel channel = SocketChannel.open(address(endpoint))) {
+            OutputStream out = new BufferedOutputStream(ChannelStreams.output(channel), 64 * 1024);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(ChannelStreams.input(channel), 64 * 1024));
+
+            IOException[] sendFailure = new IOException[1];
+            long start = System.nanoTime();
+            Thread sender = new Thread(() -> {
+                try {
+                    byte[] frame = encode(source);
+                    for (int i = 0; i < arrays; i++) {
+                        out.write(frame);
+                    }
+                    out.flush();
+                } catch (IOException e) {
+                    sendFailure[0] = e;
+                }
+            }, "sort-load-sender");
+            sender.start();
+
+            for (int i = 0; i < arrays; i++) {
+                int[] sorted = readFrame(in);
+                if (!InputValidator.isSorted(sorted) || sorted.length != size) {
+                    throw new IOException("Response " + i + " is not a sorted copy of the request");
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            sender.join();
+            if (sendFailure[0] != null) {
+                throw sendFailure[0];
+            }
+            return elapsed / 1_000_000_000.0;
+        }
+    }
+
+    private static SocketAddress address(String endpoint) {
+        if (endpoint.startsWith("tcp:")) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(endpoint.substring(4)));
+        }
+        if (endpoint.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(Path.of(endpoint.substring(5)));
+        }
+        throw new IllegalArgumentException("Endpoint must be tcp:PORT or unix:PATH, got " + endpoint);
+    }
+
+    static byte[] encode(int[] array) {
+        ByteBuffer frame = ByteBuffer.allocate((array.length + 1) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        frame.putInt(array.length);
+        frame.asIntBuffer().put(array);
+        return frame.array();
+    }
+
+    static int[] readFrame(InputStream in) throws IOException {
+        DataInputStream data = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+        byte[] header = new byte[Integer.BYTES];
+        data.readFully(header);
+        int count = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        byte[] payload = new byte[count * Integer.BYTES];
+        data.readFully(payload);
+        int[] array = new int[count];
+        ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(array);
+        return array;
+    }
+}
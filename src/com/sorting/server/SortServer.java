@@ -0,0 +1,423 @@
+package com.sorting.server;
+
+import com.sorting.algorithm.SelectionSort;
+import com.sorting.metrics.ServiceMetrics;
+import com.sorting.validation.InputValidator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Batch sorting service. Each connection sends frames of [int32 count][count x int32], little-endian
+// like the external sort files, and receives every array back sorted in the same framing and order.
+// Frames are sorted on a fixed worker pool behind a bounded queue; when the queue is full the
+// connection's reader blocks, so a fast client is throttled by the socket rather than by memory.
+// Frame counts alone do not bound memory, so every frame also holds permits for its elements from a
+// server-wide budget until its response is written; readers wait for permits before allocating.
+public class SortServer implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    public static final int DEFAULT_MAX_FRAME_INTS = 1 << 20;
+    public static final int DEFAULT_MAX_IN_FLIGHT_INTS = 1 << 24;
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final ThreadPoolExecutor workers;
+    private final int queueCapacity;
+    private final int maxInFlightInts;
+    private final Semaphore inFlight;
+    private final ServiceMetrics metrics = new ServiceMetrics();
+    private final ThreadLocal<SelectionSort> sorters = ThreadLocal.withInitial(() -> SelectionSort.tuned(false));
+    private final AtomicInteger connectionIds = new AtomicInteger();
+    private int maxFrameInts;
+    private volatile ServerSocketChannel listener;
+    private volatile Path socketFile;
+
+    public SortServer() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SortServer(int workerCount, int queueCapacity) {
+        this(workerCount, queueCapacity, DEFAULT_MAX_IN_FLIGHT_INTS);
+    }
+
+    // maxInFlightInts caps the elements read but not yet answered across all connections.
+    public SortServer(int workerCount, int queueCapacity, int maxInFlightInts) {
+        InputValidator.validatePositive(workerCount, "Worker count");
+        InputValidator.validatePositive(queueCapacity, "Queue capacity");
+        InputValidator.validatePositive(maxInFlightInts, "Max in-flight elements");
+        this.queueCapacity = queueCapacity;
+        this.maxInFlightInts = maxInFlightInts;
+        this.maxFrameInts = Math.min(DEFAULT_MAX_FRAME_INTS, maxInFlightInts);
+        // Fair, so a large frame is not starved by a stream of small ones.
+        this.inFlight = new Semaphore(maxInFlightInts, true);
+
+        AtomicInteger workerIds = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "sort-worker-" + workerIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                SortServer::blockUntilQueued);
+    }
+
+    // Backpressure: instead of rejecting, the submitting reader waits for queue space. Shutdown can land
+    // while put() waits, after the workers have drained the queue and exited; a task queued then would
+    // never run, so it is taken back out and rejected. If a worker already took it, it runs as usual.
+    private static void blockUntilQueued(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Server is closed");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue space", e);
+        }
+        if (executor.isShutdown() && executor.remove(task)) {
+            throw new RejectedExecutionException("Server is closed");
+        }
+    }
+
+    // Accepts connections on "tcp:PORT" (loopback only) or "unix:PATH" until close() is called.
+    public void listen(String endpoint) throws IOException {
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Endpoint cannot be null");
+        }
+
+        SocketAddress address;
+        StandardProtocolFamily family;
+        if (endpoint.startsWith("tcp:")) {
+            int port = Integer.parseInt(endpoint.substring(4));
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+            family = StandardProtocolFamily.INET;
+        } else if (endpoint.startsWith("unix:")) {
+            socketFile = Path.of(endpoint.substring(5));
+            address = UnixDomainSocketAddress.of(socketFile);
+            family = StandardProtocolFamily.UNIX;
+        } else {
+            throw new IllegalArgumentException("Endpoint must be tcp:PORT or unix:PATH, got " + endpoint);
+        }
+
+        listener = ServerSocketChannel.open(family);
+        listener.bind(address);
+        try {
+            while (listener.isOpen()) {
+                SocketChannel channel;
+                try {
+                    channel = listener.accept();
+                } catch (IOException e) {
+                    if (!listener.isOpen()) {
+                        break;
+                    }
+                    throw e;
+                }
+                Thread handler = new Thread(() -> handleConnection(channel),
+                        "sort-connection-" + connectionIds.incrementAndGet());
+                handler.setDaemon(true);
+                handler.start();
+            }
+        } finally {
+            closeListener();
+        }
+    }
+
+    public SocketAddress getLocalAddress() throws IOException {
+        ServerSocketChannel current = listener;
+        return current == null ? null : current.getLocalAddress();
+    }
+
+    private void handleConnection(SocketChannel channel) {
+        try (channel) {
+            serve(ChannelStreams.input(channel), ChannelStreams.output(channel));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Connection error: " + e.getMessage());
+        }
+    }
+
+    // Serves one stream until end of input and returns after the last response is flushed.
+    // Reading happens on the calling thread and writing on a helper thread, so requests keep
+    // flowing in while earlier responses are still being sorted or sent.
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Streams cannot be null");
+        }
+        metrics.recordConnection();
+
+        BlockingQueue<Response> pending = new ArrayBlockingQueue<>(queueCapacity);
+        ResponseWriter writer = new ResponseWriter(pending, new BufferedOutputStream(out, STREAM_BUFFER_SIZE),
+                inFlight);
+        Thread writerThread = new Thread(writer, Thread.currentThread().getName() + "-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        IOException failure = null;
+        try {
+            InputStream input = new BufferedInputStream(in, STREAM_BUFFER_SIZE);
+            int[] array;
+            while (writer.failure == null && (array = readFrame(input)) != null) {
+                Future<int[]> result;
+                try {
+                    result = submit(array);
+                } catch (RejectedExecutionException e) {
+                    inFlight.release(array.length);
+                    throw new IOException(e.getMessage(), e);
+                }
+                enqueue(pending, new Response(result, array.length));
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            enqueue(pending, Response.END);
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        if (writer.failure != null) {
+            throw writer.failure;
+        }
+    }
+
+    private Future<int[]> submit(int[] array) {
+        long enqueued = System.nanoTime();
+        return workers.submit(() -> {
+            long started = System.nanoTime();
+            metrics.recordQueueWait(started - enqueued);
+            sorters.get().sort(array);
+            metrics.recordSorted(array.length, System.nanoTime() - started);
+            return array;
+        });
+    }
+
+    private static void enqueue(BlockingQueue<Response> pending, Response response) throws IOException {
+        try {
+            pending.put(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while queueing a response", e);
+        }
+    }
+
+    // Returns null on a clean end of stream at a frame boundary. A returned frame holds array.length
+    // in-flight permits, released by the writer once its response is written or discarded.
+    private int[] readFrame(InputStream in) throws IOException {
+        byte[] header = new byte[Integer.BYTES];
+        int read = in.readNBytes(header, 0, header.length);
+        if (read == 0) {
+            return null;
+        }
+        if (read < header.length) {
+            throw new EOFException("Truncated frame header");
+        }
+
+        int count = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (count < 0 || count > maxFrameInts) {
+            throw new IOException(String.format("Frame length %d outside [0, %d]", count, maxFrameInts));
+        }
+
+        try {
+            inFlight.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for in-flight capacity", e);
+        }
+        try {
+            int[] array = new int[count];
+            readInts(in, array);
+            return array;
+        } catch (IOException | RuntimeException | Error e) {
+            inFlight.release(count);
+            throw e;
+        }
+    }
+
+    // Decodes through a bounded chunk rather than a byte copy of the whole payload.
+    private static void readInts(InputStream in, int[] array) throws IOException {
+        byte[] chunk = new byte[Math.min(STREAM_BUFFER_SIZE, array.length * Integer.BYTES)];
+        ByteBuffer view = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN);
+        for (int filled = 0; filled < array.length; ) {
+            int ints = Math.min(array.length - filled, chunk.length / Integer.BYTES);
+            int bytes = ints * Integer.BYTES;
+            if (in.readNBytes(chunk, 0, bytes) < bytes) {
+                throw new EOFException("Truncated frame payload");
+            }
+            view.asIntBuffer().get(array, filled, ints);
+            filled += ints;
+        }
+    }
+
+    // A queued response and the in-flight permits its frame holds; END tells the writer to stop.
+    private record Response(Future<int[]> result, int length) {
+
+        static final Response END = new Response(CompletableFuture.completedFuture(null), 0);
+    }
+
+    private static final class ResponseWriter implements Runnable {
+
+        private final BlockingQueue<Response> pending;
+        private final OutputStream out;
+        private final Semaphore inFlight;
+        private final byte[] chunk = new byte[STREAM_BUFFER_SIZE];
+        private volatile IOException failure;
+
+        private ResponseWriter(BlockingQueue<Response> pending, OutputStream out, Semaphore inFlight) {
+            this.pending = pending;
+            this.out = out;
+            this.inFlight = inFlight;
+        }
+
+        // Writes responses in request order and flushes whenever it has caught up with the workers.
+        // After a failure it keeps draining so the reader never blocks on a full pending queue.
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Response response = pending.take();
+                    if (response == Response.END) {
+                        break;
+                    }
+                    try {
+                        writeFrame(response.result().get());
+                    } finally {
+                        inFlight.release(response.length());
+                    }
+                    if (pending.isEmpty()) {
+                        out.flush();
+                    }
+                }
+                if (failure == null) {
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                failure = new IOException("Sort failed: " + e.getCause().getMessage(), e.getCause());
+                drain();
+            } catch (IOException e) {
+                failure = e;
+                drain();
+            }
+        }
+
+        // Encodes through the writer's chunk, so a response costs no second copy of the array.
+        private void writeFrame(int[] sorted) throws IOException {
+            ByteBuffer view = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN);
+            view.putInt(sorted.length);
+            out.write(chunk, 0, Integer.BYTES);
+            for (int written = 0; written < sorted.length; ) {
+                int ints = Math.min(sorted.length - written, chunk.length / Integer.BYTES);
+                view.clear();
+                view.asIntBuffer().put(sorted, written, ints);
+                out.write(chunk, 0, ints * Integer.BYTES);
+                written += ints;
+            }
+        }
+
+        // Waits for each remaining sort so its permits are released only once its array is unreachable.
+        private void drain() {
+            while (true) {
+                Response response;
+                try {
+                    response = pending.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (response == Response.END) {
+                    return;
+                }
+                try {
+                    response.result().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException ignored) {
+                    // Discarded like every other response once the connection has failed.
+                } finally {
+                    inFlight.release(response.length());
+                }
+            }
+        }
+    }
+
+    public ServiceMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getMaxFrameInts() {
+        return maxFrameInts;
+    }
+
+    // A frame larger than the in-flight budget could never acquire its permits.
+    public void setMaxFrameInts(int maxFrameInts) {
+        InputValidator.validatePositive(maxFrameInts, "Max frame length");
+        if (maxFrameInts > maxInFlightInts) {
+            throw new IllegalArgumentException(String.format("Max frame length %d exceeds the in-flight limit %d",
+                    maxFrameInts, maxInFlightInts));
+        }
+        this.maxFrameInts = maxFrameInts;
+    }
+
+    public int getMaxInFlightInts() {
+        return maxInFlightInts;
+    }
+
+    public int getAvailableInFlightInts() {
+        return inFlight.availablePermits();
+    }
+
+    private void closeListener() throws IOException {
+        ServerSocketChannel current = listener;
+        if (current != null) {
+            current.close();
+        }
+        Path file = socketFile;
+        if (file != null) {
+            Files.deleteIfExists(file);
+            socketFile = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeListener();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
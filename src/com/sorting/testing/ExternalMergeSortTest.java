@@ -0,0 +1,83 @@
+package com.sorting.testing;
+
+import com.sorting.external.ExternalMergeSort;
+import com.sorting.validation.InputValidator;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class ExternalMergeSortTest {
+
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        input = Files.createTempFile("external-input", ".bin");
+        output = Files.createTempFile("external-output", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Test
+    @DisplayName("Test multi-run external sort with intermediate merge passes")
+    void testExternalSortAcrossRuns() throws IOException {
+        // A 4 MB budget gives 512K-int runs, so 1.5M ints spill three runs; fan-in 2 forces an extra pass.
+        int[] values = new Random(42).ints(1_500_000).toArray();
+        writeInts(input, values);
+
+        Path runDirectory = Files.createTempDirectory("external-runs");
+        ExternalMergeSort sorter = new ExternalMergeSort(4L * 1024 * 1024, 2, runDirectory);
+        try {
+            sorter.sort(input, output);
+            try (Stream<Path> leftovers = Files.list(runDirectory)) {
+                assertEquals(0, leftovers.count());
+            }
+        } finally {
+            Files.delete(runDirectory);
+        }
+
+        int[] sorted = readInts(output);
+        assertTrue(InputValidator.verifySortCorrectness(values, sorted));
+
+        Map<String, Long> phases = sorter.getMetrics().getPhaseTimes();
+        assertTrue(phases.containsKey("Run generation"));
+        assertTrue(phases.containsKey("Spill I/O"));
+        assertTrue(phases.containsKey("Merge"));
+        assertTrue(sorter.getMetrics().getComparisons() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSort(4L * 1024 * 1024, 1, null));
+    }
+
+    @Test
+    @DisplayName("Test truncated input is rejected")
+    void testTruncatedInput() throws IOException {
+        Files.write(input, new byte[] {1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> new ExternalMergeSort().sort(input, output));
+    }
+
+    private static void writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(values);
+        Files.write(file, bytes.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        IntBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int[] values = new int[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+}
@@ -1,12 +1,68 @@
 package com.sorting.testing;
 
+import com.sorting.algorithm.BufferSelectionSort;
+import com.sorting.algorithm.GenericSelectionSort;
+import com.sorting.algorithm.HeapSelectionStrategy;
+import com.sorting.algorithm.IncrementalSelectionSorter;
+import com.sorting.algorithm.ParallelSelectionSort;
+import com.sorting.algorithm.PrimitiveSelectionSort;
+import com.sorting.algorithm.RangeSelectionSort;
+import com.sorting.algorithm.RangeSortStrategy;
 import com.sorting.algorithm.SelectionSort;
+import com.sorting.algorithm.SmallArraySorter;
+import com.sorting.algorithm.SortAlgorithm;
+import com.sorting.algorithm.SortAlgorithms;
+import com.sorting.algorithm.SortExecutor;
+import com.sorting.algorithm.StableSelectionSort;
+import com.sorting.algorithm.TuningProfile;
+import com.sorting.algorithm.VectorizedSelectionSort;
+import com.sorting.benchmark.algoritm.AutoTuner;
+import com.sorting.benchmark.algoritm.InputDistribution;
+import com.sorting.benchmark.algoritm.PerformanceBenchmark;
+import com.sorting.metrics.ConcurrentSortingMetrics;
+import com.sorting.metrics.LatencyHistogram;
+import com.sorting.metrics.MetricsSnapshot;
+import com.sorting.metrics.SampledSortingMetrics;
+import com.sorting.metrics.SortMode;
+import com.sorting.metrics.ServiceMetrics;
 import com.sorting.metrics.SortingMetrics;
+import com.sorting.metrics.SortingMetricsMXBean;
+import com.sorting.metrics.SortingTelemetry;
+import com.sorting.server.SortLoadGenerator;
+import com.sorting.server.SortServer;
+import com.sorting.validation.IntParser;
 import com.sorting.validation.InputValidator;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMX;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class SelectionSortTest {
 
@@ -14,6 +70,12 @@ public class SelectionSortTest {
     private SelectionSort sorterWithoutMetrics;
     private Random random;
 
+    // Keeps the tests independent of any tuning profile on the machine running them.
+    @BeforeAll
+    static void useDefaultTuningProfile() {
+        TuningProfile.setCurrent(TuningProfile.defaults());
+    }
+
     @BeforeEach
     void setUp() {
         sorter = new SelectionSort(true);
@@ -63,6 +125,743 @@ public class SelectionSortTest {
         assertEquals (0, metrics.getSwaps ());
     }
 
+    @Test
+    @Order(4)
+    @DisplayName("Test instrumented and uninstrumented kernels agree")
+    void testInstrumentedKernelCounts() {
+        int size = 500;
+        int[] withMetrics = generateRandomArray(size);
+        int[] withoutMetrics = withMetrics.clone();
+
+        sorter.sort(withMetrics);
+        sorterWithoutMetrics.sort(withoutMetrics);
+
+        assertArrayEquals(withMetrics, withoutMetrics);
+        SortingMetrics metrics = sorter.getMetrics();
+        assertEquals(SortingMetrics.theoreticalComparisons(size), metrics.getComparisons());
+        assertEquals((size - 1) + 2 * metrics.getComparisons() + 4 * metrics.getSwaps(),
+                metrics.getArrayAccesses());
+        assertEquals(size - 1, metrics.getIterations());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Test vectorized scan matches scalar scan, including ties")
+    void testVectorizedMatchesScalar() {
+        SelectionSort vectorSorter = new VectorizedSelectionSort(true);
+
+        for (int size : new int[] {1, 7, 64, 1001}) {
+            int[] scalar = new int[size];
+            for (int i = 0; i < size; i++) {
+                scalar[i] = random.nextInt(20) - 10; // many duplicates
+            }
+            int[] vector = scalar.clone();
+            int[] scalarDesc = scalar.clone();
+            int[] vectorDesc = scalar.clone();
+
+            sorter.sort(scalar);
+            long scalarSwaps = sorter.getMetrics().getSwaps();
+            vectorSorter.sort(vector);
+            assertArrayEquals(scalar, vector);
+            assertEquals(scalarSwaps, vectorSorter.getMetrics().getSwaps());
+
+            sorter.sortDescending(scalarDesc);
+            scalarSwaps = sorter.getMetrics().getSwaps();
+            vectorSorter.sortDescending(vectorDesc);
+            assertArrayEquals(scalarDesc, vectorDesc);
+            assertEquals(scalarSwaps, vectorSorter.getMetrics().getSwaps());
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Test bidirectional sort matches theoretical comparisons")
+    void testBidirectionalSort() {
+        for (int size : new int[] {0, 1, 2, 3, 10, 11, 1000, 1001}) {
+            int[] array = generateRandomArray(size);
+            int[] original = array.clone();
+
+            sorter.sortBidirectional(array);
+
+            assertTrue(InputValidator.verifySortCorrectness(original, array));
+            SortingMetrics metrics = sorter.getMetrics();
+            assertEquals(SortMode.BIDIRECTIONAL, metrics.getMode());
+            assertEquals(SortingMetrics.theoreticalComparisons(size, SortMode.BIDIRECTIONAL),
+                    metrics.getComparisons());
+            assertTrue(metrics.getSwaps() <= SortingMetrics.theoreticalMaxSwaps(size, SortMode.BIDIRECTIONAL));
+        }
+
+        int[] reverse = generateReverseSortedArray(100);
+        sorterWithoutMetrics.sortBidirectional(reverse);
+        assertTrue(InputValidator.isSorted(reverse));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Test heap strategy takes over above the threshold")
+    void testHeapStrategyThreshold() {
+        sorter.setStrategy(new HeapSelectionStrategy());
+        sorter.setStrategyThreshold(64);
+
+        int[] small = generateRandomArray(64);
+        sorter.sort(small);
+        assertEquals(SortMode.STANDARD, sorter.getMetrics().getMode());
+
+        for (int size : new int[] {65, 1000, 4097}) {
+            int[] array = generateRandomArray(size);
+            int[] original = array.clone();
+            sorter.sort(array);
+
+            SortingMetrics metrics = sorter.getMetrics();
+            assertTrue(InputValidator.verifySortCorrectness(original, array));
+            assertEquals(SortMode.HEAP, metrics.getMode());
+            assertTrue(metrics.getComparisons() <= SortingMetrics.theoreticalComparisons(size, SortMode.HEAP));
+            assertTrue(metrics.getSwaps() <= SortingMetrics.theoreticalMaxSwaps(size, SortMode.HEAP));
+            assertEquals(2 * metrics.getComparisons() + 4 * metrics.getSwaps(), metrics.getArrayAccesses());
+
+            int[] descending = original.clone();
+            sorterWithoutMetrics.setStrategyThreshold(0);
+            sorterWithoutMetrics.sortDescending(descending);
+            assertTrue(InputValidator.isSortedDescending(descending));
+        }
+
+        // sortOptimized keeps its early exit: sorted input above the threshold costs one pass, not a heapsort.
+        int[] sorted = generateSortedArray(1000);
+        sorter.sortOptimized(sorted);
+        assertEquals(SortMode.STANDARD, sorter.getMetrics().getMode());
+        assertEquals(999, sorter.getMetrics().getComparisons());
+        assertEquals(0, sorter.getMetrics().getSwaps());
+        assertTrue(InputValidator.isSorted(sorted));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Test parallel scan and chunked sort with per-worker metrics")
+    void testParallelSelectionSort() {
+        try (ParallelSelectionSort parallel = new ParallelSelectionSort(true, 4, 128)) {
+            int size = 3000;
+            int[] array = generateRandomArray(size);
+            int[] expected = array.clone();
+            sorter.setStrategy(null);
+            sorter.sort(expected);
+            long sequentialSwaps = sorter.getMetrics().getSwaps();
+
+            parallel.sort(array);
+            assertArrayEquals(expected, array);
+            assertEquals(SortingMetrics.theoreticalComparisons(size), parallel.getMetrics().getComparisons());
+            assertEquals(sequentialSwaps, parallel.getMetrics().getSwaps());
+
+            int[] chunked = generateRandomArray(size);
+            int[] original = chunked.clone();
+            parallel.sortChunked(chunked);
+            assertTrue(InputValidator.verifySortCorrectness(original, chunked));
+
+            // Four blocks of 750 elements plus the merge comparisons.
+            long blockComparisons = 4 * SortingMetrics.theoreticalComparisons(750);
+            assertTrue(parallel.getMetrics().getComparisons() > blockComparisons);
+            assertEquals(4 * 749, parallel.getMetrics().getIterations());
+        }
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Test shared sorter with concurrent metrics keeps exact totals")
+    void testConcurrentMetrics() throws Exception {
+        ConcurrentSortingMetrics metrics = new ConcurrentSortingMetrics();
+        SelectionSort shared = new SelectionSort(metrics);
+        int threads = 8;
+        int sortsPerThread = 50;
+        int size = 200;
+
+        // Assertions inside a worker would only kill that worker, so each returns its result to this thread.
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                Random local = new Random();
+                boolean allSorted = true;
+                for (int i = 0; i < sortsPerThread; i++) {
+                    int[] array = local.ints(size, 0, 1000).toArray();
+                    shared.sort(array);
+                    allSorted &= InputValidator.isSorted(array);
+                }
+                return allSorted;
+            }));
+        }
+        pool.shutdown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        long runs = (long) threads * sortsPerThread;
+        assertEquals(runs, metrics.getRuns());
+        assertEquals(runs * SortingMetrics.theoreticalComparisons(size), snapshot.comparisons());
+        assertEquals(runs * (size - 1), snapshot.iterations());
+        assertTrue(snapshot.elapsedTimeNanos() > 0);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Test top-k and bottom-k selection, linear and heap")
+    void testPartialSelection() {
+        int size = 500;
+        for (int k : new int[] {0, 1, 10, 499, 500}) {
+            int[] original = generateRandomArray(size);
+            int[] expected = original.clone();
+            Arrays.sort(expected);
+
+            int[] bottom = original.clone();
+            sorter.selectBottomK(bottom, k);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(bottom, k));
+            assertEquals(SortingMetrics.theoreticalPartialComparisons(size, k), sorter.getMetrics().getComparisons());
+
+            int[] bottomHeap = original.clone();
+            sorter.selectBottomKHeap(bottomHeap, k);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(bottomHeap, k));
+            assertTrue(InputValidator.verifySortCorrectness(original, sortedCopy(bottomHeap)));
+
+            int[] top = original.clone();
+            int[] topHeap = original.clone();
+            sorter.selectTopK(top, k);
+            sorterWithoutMetrics.selectTopKHeap(topHeap, k);
+            for (int i = 0; i < k; i++) {
+                assertEquals(expected[size - 1 - i], top[i]);
+                assertEquals(expected[size - 1 - i], topHeap[i]);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.selectTopK(new int[3], 4));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Test nthElement partitions around the k-th smallest value")
+    void testNthElement() {
+        for (int size : new int[] {1, 17, 1000, 20000}) {
+            int[] array = generateRandomArray(size);
+            int[] expected = sortedCopy(array);
+            int k = size / 2;
+
+            int value = sorter.nthElement(array, k);
+
+            assertEquals(expected[k], value);
+            assertEquals(expected[k], array[k]);
+            for (int i = 0; i < k; i++) {
+                assertTrue(array[i] <= value);
+            }
+            for (int i = k + 1; i < size; i++) {
+                assertTrue(array[i] >= value);
+            }
+            assertArrayEquals(expected, sortedCopy(array));
+            assertEquals(SortMode.NTH_ELEMENT, sorter.getMetrics().getMode());
+        }
+
+        // Organ-pipe input defeats median-of-three; the fallback keeps the work linear.
+        int size = 100_000;
+        int[] organPipe = new int[size];
+        for (int i = 0; i < size; i++) {
+            organPipe[i] = i < size / 2 ? 2 * i : 2 * (size - i) - 1;
+        }
+        sorter.nthElement(organPipe, size / 2);
+        assertTrue(sorter.getMetrics().getComparisons() < 50L * size);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.nthElement(new int[3], 3));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Test primitive overloads, including NaN and signed zero ordering")
+    void testPrimitiveOverloads() {
+        PrimitiveSelectionSort primitive = new PrimitiveSelectionSort(true);
+
+        double[] doubles = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.25, 0.0, -0.0};
+        double[] doublesOriginal = doubles.clone();
+        primitive.sort(doubles);
+        assertTrue(InputValidator.verifySortCorrectness(doublesOriginal, doubles));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(doubles[2]));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(doubles[4]));
+        assertTrue(Double.isNaN(doubles[doubles.length - 1]));
+        assertEquals(SortingMetrics.theoreticalComparisons(doubles.length), primitive.getMetrics().getComparisons());
+
+        float[] floats = {Float.NaN, 1.5f, -0.0f, 0.0f, -1.5f};
+        primitive.sortDescending(floats);
+        assertTrue(InputValidator.isSortedDescending(floats));
+        assertTrue(Float.isNaN(floats[0]));
+
+        long[] longs = random.longs(300).toArray();
+        long[] longsOriginal = longs.clone();
+        primitive.sortOptimized(longs);
+        assertTrue(InputValidator.verifySortCorrectness(longsOriginal, longs));
+
+        short[] shorts = {5, -3, Short.MIN_VALUE, Short.MAX_VALUE, 0};
+        char[] chars = {'z', 'a', '\uffff', '0', 'M'};
+        byte[] bytes = {7, -128, 127, 0, -1};
+        primitive.sort(shorts);
+        primitive.sort(chars);
+        primitive.sort(bytes);
+        assertTrue(InputValidator.isSorted(shorts));
+        assertTrue(InputValidator.isSorted(chars));
+        assertTrue(InputValidator.isSorted(bytes));
+        assertEquals('\uffff', chars[chars.length - 1]);
+
+        assertThrows(IllegalArgumentException.class, () -> primitive.sort((double[]) null));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Test comparator sort counts invocations and key caching extracts once")
+    void testGenericSelectionSort() {
+        GenericSelectionSort generic = new GenericSelectionSort(true);
+        AtomicInteger invocations = new AtomicInteger();
+        Comparator<String> byLength = (a, b) -> {
+            invocations.incrementAndGet();
+            return Integer.compare(a.length(), b.length());
+        };
+
+        String[] words = {"pear", "fig", "banana", "kiwi", "apple", "date"};
+        generic.sort(words, byLength);
+        for (int i = 1; i < words.length; i++) {
+            assertTrue(words[i - 1].length() <= words[i].length());
+        }
+        assertEquals(invocations.get(), generic.getMetrics().getComparisons());
+
+        AtomicInteger extractions = new AtomicInteger();
+        List<String> list = new ArrayList<>(List.of("ccc", "a", "dddd", "bb", "eeeee"));
+        generic.sortByIntKey(list, word -> {
+            extractions.incrementAndGet();
+            return word.length();
+        });
+        assertEquals(List.of("a", "bb", "ccc", "dddd", "eeeee"), list);
+        assertEquals(5, extractions.get());
+
+        Double[] scores = {2.5, Double.NaN, -1.0, 0.0, -0.0};
+        generic.sortByDoubleKey(scores, Double::doubleValue);
+        assertArrayEquals(new Double[] {-1.0, -0.0, 0.0, 2.5, Double.NaN}, scores);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> generic.sort(new String[] {"a", null}, Comparator.naturalOrder()));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Test buffer sorter on direct buffers and little-endian files")
+    void testBufferSelectionSort() throws IOException {
+        BufferSelectionSort bufferSorter = new BufferSelectionSort(true);
+        int[] values = generateRandomArray(300);
+
+        IntBuffer direct = ByteBuffer.allocateDirect(values.length * Integer.BYTES).asIntBuffer();
+        direct.put(values).flip();
+        bufferSorter.sort(direct);
+        int[] sorted = new int[values.length];
+        direct.get(0, sorted);
+        assertArrayEquals(sortedCopy(values), sorted);
+        assertEquals(SortingMetrics.theoreticalComparisons(values.length), bufferSorter.getMetrics().getComparisons());
+
+        Path file = Files.createTempFile("buffer-sort", ".bin");
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asIntBuffer().put(values);
+            Files.write(file, bytes.array());
+
+            bufferSorter.setHeapThreshold(100);
+            bufferSorter.sortFileDescending(file);
+
+            IntBuffer result = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            int[] fromFile = new int[values.length];
+            result.get(fromFile);
+            assertTrue(InputValidator.isSortedDescending(fromFile));
+            assertArrayEquals(sortedCopy(values), sortedCopy(fromFile));
+            assertEquals(SortMode.HEAP, bufferSorter.getMetrics().getMode());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Test incremental sorter interleaving adds and polls")
+    void testIncrementalSelectionSorter() {
+        IncrementalSelectionSorter incremental = new IncrementalSelectionSorter(true);
+        int[] first = generateRandomArray(500);
+        int[] second = generateRandomArray(20);
+
+        incremental.addAll(first);
+        int[] expected = sortedCopy(first);
+        assertEquals(expected[0], incremental.peekMin());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected[i], incremental.pollMin());
+        }
+        // Polling 10 of 500 must cost far less than a full quadratic pass.
+        assertTrue(incremental.getMetrics().getComparisons() < SortingMetrics.theoreticalComparisons(first.length) / 10);
+
+        for (int value : second) {
+            incremental.add(value);
+        }
+        List<Integer> drained = new ArrayList<>();
+        incremental.drainSorted(drained::add);
+
+        int[] remaining = new int[expected.length - 10 + second.length];
+        System.arraycopy(expected, 10, remaining, 0, expected.length - 10);
+        System.arraycopy(second, 0, remaining, expected.length - 10, second.length);
+        assertArrayEquals(sortedCopy(remaining), drained.stream().mapToInt(Integer::intValue).toArray());
+
+        assertTrue(incremental.isEmpty());
+        assertEquals(first.length + second.length, incremental.getAddCount());
+        assertEquals(first.length + second.length, incremental.getPollCount());
+        assertEquals(1, incremental.getPeekCount());
+        assertEquals(SortMode.INCREMENTAL, incremental.getMetrics().getMode());
+        assertThrows(IllegalStateException.class, incremental::pollMin);
+
+        incremental.add(7);
+        incremental.clear();
+        assertTrue(incremental.isEmpty());
+        assertEquals(0, incremental.getAddCount());
+        assertEquals(0, incremental.getPollCount());
+        assertEquals(0, incremental.getMetrics().getComparisons());
+        assertEquals(0, incremental.getMetrics().getArrayAccesses());
+        assertEquals(SortMode.INCREMENTAL, incremental.getMetrics().getMode());
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Test bulk integer parsing and error offsets")
+    void testIntParser() throws IOException {
+        String text = " 64, 25 -12\n22\t+11,-2147483648 2147483647 ";
+        int[] expected = {64, 25, -12, 22, 11, Integer.MIN_VALUE, Integer.MAX_VALUE};
+
+        assertArrayEquals(expected, IntParser.parse(text));
+        assertArrayEquals(expected, IntParser.parse(new StringReader(text)));
+        assertArrayEquals(expected, IntParser.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+        assertArrayEquals(expected, InputValidator.validateAndParseInput(text));
+
+        IllegalArgumentException badToken = assertThrows(IllegalArgumentException.class,
+                () -> IntParser.parse("1 2 3x 4"));
+        assertTrue(badToken.getMessage().contains("offset 4"));
+        assertThrows(IllegalArgumentException.class, () -> IntParser.parse("2147483648"));
+        assertThrows(IllegalArgumentException.class, () -> IntParser.parse("1 - 2"));
+        assertThrows(IllegalArgumentException.class, () -> InputValidator.validateAndParseInput("  "));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Test sort service framing, ordering and metrics")
+    void testSortServer() throws Exception {
+        int[][] requests = {generateRandomArray(40), new int[0], generateRandomArray(1), generateRandomArray(700)};
+        ByteBuffer frames = ByteBuffer.allocate(4 * (4 + 741)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int[] request : requests) {
+            frames.putInt(request.length);
+            for (int value : request) {
+                frames.putInt(value);
+            }
+        }
+
+        // 720 in-flight elements: the 700-element frame has to wait for earlier responses to be written.
+        try (SortServer server = new SortServer(2, 1, 720)) {
+            assertThrows(IllegalArgumentException.class, () -> server.setMaxFrameInts(721));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            server.serve(new ByteArrayInputStream(frames.array(), 0, frames.position()), out);
+            assertEquals(720, server.getAvailableInFlightInts());
+
+            ByteBuffer responses = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+            for (int[] request : requests) {
+                int[] response = new int[responses.getInt()];
+                responses.asIntBuffer().get(response);
+                responses.position(responses.position() + response.length * Integer.BYTES);
+                assertArrayEquals(sortedCopy(request), response);
+            }
+            assertFalse(responses.hasRemaining());
+
+            ServiceMetrics metrics = server.getMetrics();
+            assertEquals(requests.length, metrics.getArraysSorted());
+            assertEquals(741, metrics.getElementsSorted());
+            assertTrue(metrics.getArraysPerSecond() > 0);
+
+            assertThrows(IOException.class, () -> server.serve(new ByteArrayInputStream(new byte[] {5, 0, 0, 0, 1}), out));
+            assertEquals(720, server.getAvailableInFlightInts());
+
+            Thread listener = new Thread(() -> {
+                try {
+                    server.listen("tcp:0");
+                } catch (IOException ignored) {
+                }
+            });
+            listener.setDaemon(true);
+            listener.start();
+            while (server.getLocalAddress() == null) {
+                Thread.sleep(10);
+            }
+            int port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+            assertTrue(SortLoadGenerator.run("tcp:" + port, 200, 64) > 0);
+            assertEquals(requests.length + 200, metrics.getArraysSorted());
+        }
+
+        // A closed server rejects new frames with an IOException instead of queueing work no worker will run.
+        SortServer closed = new SortServer(1, 1);
+        closed.close();
+        assertThrows(IOException.class, () -> closed.serve(
+                new ByteArrayInputStream(frames.array(), 0, frames.position()), new ByteArrayOutputStream()));
+        assertEquals(SortServer.DEFAULT_MAX_IN_FLIGHT_INTS, closed.getAvailableInFlightInts());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Test sort executor modes with per-worker metrics")
+    void testSortExecutor() {
+        for (SortExecutor.Mode mode : SortExecutor.Mode.values()) {
+            try (SortExecutor executor = new SortExecutor(mode, 4, true)) {
+                List<int[]> originals = new ArrayList<>();
+                List<CompletableFuture<int[]>> futures = new ArrayList<>();
+                long expectedComparisons = 0;
+                for (int i = 0; i < 500; i++) {
+                    int[] array = generateRandomArray(5 + i % 46);
+                    originals.add(array.clone());
+                    futures.add(executor.submit(array));
+                    expectedComparisons += SortingMetrics.theoreticalComparisons(array.length);
+                }
+
+                for (int i = 0; i < futures.size(); i++) {
+                    assertArrayEquals(sortedCopy(originals.get(i)), futures.get(i).join(), mode.name());
+                }
+                assertEquals(expectedComparisons, executor.getMetrics().getComparisons(), mode.name());
+                assertTrue(executor.getMetrics().getElapsedTimeNanos() > 0, mode.name());
+                assertTrue(executor.getWorkerCount() >= 1);
+                assertThrows(IllegalArgumentException.class, () -> executor.submit(null));
+            }
+        }
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Test sorting networks for tiny arrays and batches")
+    void testSmallArraySorter() {
+        SmallArraySorter networkSorter = new SmallArraySorter(true);
+        for (int size = 0; size <= SmallArraySorter.MAX_NETWORK_SIZE; size++) {
+            int[] array = generateRandomArray(size);
+            int[] expected = sortedCopy(array);
+            networkSorter.sort(array);
+            assertArrayEquals(expected, array);
+            assertEquals(SmallArraySorter.comparatorCount(size), networkSorter.getMetrics().getComparisons());
+        }
+        assertEquals(SortMode.NETWORK, networkSorter.getMetrics().getMode());
+
+        int[][] batch = new int[300][];
+        int[][] expected = new int[batch.length][];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = generateRandomArray(i % 25);
+            expected[i] = sortedCopy(batch[i]);
+        }
+        networkSorter.sortAll(batch);
+        for (int i = 0; i < batch.length; i++) {
+            assertArrayEquals(expected[i], batch[i]);
+        }
+        assertTrue(networkSorter.getMetrics().getComparisons() > 0);
+
+        // The uninstrumented SelectionSort path uses the same networks for tiny arrays.
+        SelectionSort fastSorter = new SelectionSort(false);
+        int[] tiny = {29, 10, 14, 37, 14};
+        fastSorter.sort(tiny);
+        assertArrayEquals(new int[] {10, 14, 14, 29, 37}, tiny);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Test adaptive front end picks the path by presortedness")
+    void testSortAdaptive() {
+        int size = 2000;
+        Random seeded = new Random(7);
+
+        int[] sorted = InputDistribution.SORTED.generate(size, seeded);
+        sorter.sortAdaptive(sorted);
+        assertTrue(InputValidator.isSorted(sorted));
+        assertEquals(SortMode.ADAPTIVE_PRESORTED, sorter.getMetrics().getMode());
+        assertEquals(size - 1, sorter.getMetrics().getComparisons());
+        assertTrue(sorter.getMetrics().getPhaseTimes().containsKey("Presortedness scan"));
+
+        int[] reversed = InputDistribution.REVERSE_SORTED.generate(size, seeded);
+        sorter.sortAdaptive(reversed);
+        assertTrue(InputValidator.isSorted(reversed));
+        assertEquals(SortMode.ADAPTIVE_REVERSED, sorter.getMetrics().getMode());
+        assertEquals(size / 2, sorter.getMetrics().getSwaps());
+
+        int[] nearly = InputDistribution.NEARLY_SORTED.generate(size, seeded);
+        int[] expected = sortedCopy(nearly);
+        sorter.sortAdaptive(nearly);
+        assertArrayEquals(expected, nearly);
+        assertEquals(SortMode.ADAPTIVE_INSERTION, sorter.getMetrics().getMode());
+        assertTrue(sorter.getMetrics().getComparisons() < SortingMetrics.theoreticalComparisons(size));
+
+        int[] random = InputDistribution.RANDOM.generate(size, seeded);
+        expected = sortedCopy(random);
+        sorter.sortAdaptive(random);
+        assertArrayEquals(expected, random);
+        assertEquals(SortMode.STANDARD, sorter.getMetrics().getMode());
+        assertTrue(sorter.getMetrics().getPhaseTimes().containsKey("Selection"));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Test stable selection keeps equal keys in input order")
+    void testStableSelectionSort() {
+        int size = 400;
+        int[] sourceKeys = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = random.nextInt(20);
+        }
+
+        StableSelectionSort stable = new StableSelectionSort(true);
+        for (boolean byIndex : new boolean[] {false, true}) {
+            int[] keys = sourceKeys.clone();
+            int[] payload = new int[size];
+            String[] labels = new String[size];
+            for (int i = 0; i < size; i++) {
+                payload[i] = i;
+                labels[i] = "r" + i;
+            }
+
+            if (byIndex) {
+                stable.sortByIndex(keys, payload);
+            } else {
+                stable.sort(keys, payload);
+            }
+            assertArrayEquals(sortedCopy(sourceKeys), keys);
+            for (int i = 1; i < size; i++) {
+                assertEquals(sourceKeys[payload[i]], keys[i]);
+                if (keys[i] == keys[i - 1]) {
+                    assertTrue(payload[i] > payload[i - 1], "Equal keys reordered at " + i);
+                }
+            }
+            assertEquals(SortingMetrics.theoreticalComparisons(size), stable.getMetrics().getComparisons());
+            assertTrue(stable.getMetrics().getMoves() > 0);
+            if (!byIndex) {
+                assertEquals(0, stable.getMetrics().getSwaps());
+            }
+
+            keys = sourceKeys.clone();
+            stable.sort(keys, labels);
+            assertArrayEquals(payload, Arrays.stream(labels).mapToInt(label -> Integer.parseInt(label.substring(1))).toArray());
+        }
+
+        assertArrayEquals(new int[] {1, 3, 0, 2}, stable.stableOrder(new int[] {5, 1, 5, 1}));
+        assertThrows(IllegalArgumentException.class, () -> stable.sort(new int[3], new int[2]));
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Test range-selected counting and radix engines")
+    void testRangeSortStrategy() {
+        SelectionSort rangeSorter = new SelectionSort(true);
+        rangeSorter.setStrategy(new RangeSortStrategy());
+        rangeSorter.setStrategyThreshold(64);
+
+        int[] narrow = new Random(3).ints(5000, 0, 100).toArray();
+        int[] expected = sortedCopy(narrow);
+        rangeSorter.sort(narrow);
+        assertArrayEquals(expected, narrow);
+        assertEquals(SortMode.COUNTING, rangeSorter.getMetrics().getMode());
+        assertEquals(0, rangeSorter.getMetrics().getComparisons());
+        assertEquals(100L * Integer.BYTES, rangeSorter.getMetrics().getMemoryAllocations());
+
+        int[] wide = new Random(4).ints(5000).toArray();
+        expected = sortedCopy(wide);
+        rangeSorter.sort(wide);
+        assertArrayEquals(expected, wide);
+        assertEquals(SortMode.RADIX, rangeSorter.getMetrics().getMode());
+        long firstRun = rangeSorter.getMetrics().getMemoryAllocations();
+        assertTrue(firstRun >= 5000L * Integer.BYTES);
+
+        // The scratch buffer is reused, so a second wide sort only allocates the digit histogram.
+        wide = new Random(5).ints(5000).toArray();
+        rangeSorter.sortDescending(wide);
+        assertTrue(InputValidator.isSortedDescending(wide));
+        assertTrue(rangeSorter.getMetrics().getMemoryAllocations() < firstRun);
+
+        int[] tiny = {5, 3, 9, 1};
+        rangeSorter.sort(tiny);
+        assertEquals(SortMode.STANDARD, rangeSorter.getMetrics().getMode());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Test SortAlgorithm registry and per-algorithm benchmark export")
+    void testSortAlgorithmRegistry() throws IOException {
+        assertEquals(List.of("Selection Sort", "Parallel Selection Sort", "Counting/Radix Sort"),
+                SortAlgorithms.names());
+        assertThrows(IllegalArgumentException.class, () -> SortAlgorithms.create("bogo sort"));
+        assertThrows(IllegalArgumentException.class, () -> SortAlgorithms.create(null));
+
+        for (String name : SortAlgorithms.names()) {
+            try (SortAlgorithm algorithm = SortAlgorithms.create(name.toLowerCase().replace(' ', '-'));
+                 SortAlgorithm other = SortAlgorithms.create(name)) {
+                assertNotSame(algorithm, other);
+                int[] array = new Random(6).ints(300, -1000, 1000).toArray();
+                int[] expected = sortedCopy(array);
+                algorithm.sort(array);
+                assertArrayEquals(expected, array, name);
+                algorithm.sortDescending(array);
+                assertTrue(InputValidator.isSortedDescending(array), name);
+                assertTrue(algorithm.getMetrics().getArrayAccesses() > 0, name);
+            }
+        }
+
+        Path csv = Files.createTempFile("benchmark-result", ".csv");
+        try (PerformanceBenchmark benchmark = new PerformanceBenchmark()) {
+            benchmark.exportToCSV(List.of("selection sort", "counting/radix sort"), new int[] {200}, csv.toString());
+            List<String> lines = Files.readAllLines(csv);
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(0).startsWith("Algorithm,ArraySize,"));
+            assertTrue(lines.get(1).startsWith("Selection Sort,200,"));
+            assertTrue(lines.get(2).startsWith("Counting/Radix Sort,200,"));
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Test tuning profile persistence and the tuned entry points")
+    void testTuningProfile() throws IOException {
+        TuningProfile original = TuningProfile.current();
+        Path file = Files.createTempFile("tuning", ".properties");
+        try {
+            TuningProfile tuned = new TuningProfile(1_024, 4, 128, 16_384, Integer.MAX_VALUE);
+            tuned.save(file);
+            assertEquals(tuned, TuningProfile.load(file));
+            // The report only formats; calibration itself is timing-dependent and stays in --tune.
+            String report = new AutoTuner().generateReport(TuningProfile.defaults(), tuned);
+            assertTrue(report.contains("1,024"));
+            assertTrue(report.contains("never"));
+
+            // Keys missing from an older profile keep their defaults; malformed values are rejected.
+            Files.writeString(file, "strategy.threshold=100\n");
+            TuningProfile partial = TuningProfile.load(file);
+            assertEquals(100, partial.strategyThreshold());
+            assertEquals(TuningProfile.DEFAULT_PARALLEL_CUTOFF, partial.parallelCutoff());
+            Files.writeString(file, "parallel.cutoff=fast\n");
+            assertThrows(IllegalArgumentException.class, () -> TuningProfile.load(file));
+            assertThrows(IllegalArgumentException.class, () -> new TuningProfile(0, 0, 0, 1, 0));
+
+            TuningProfile.setCurrent(new TuningProfile(200, 16, 32, 4096, 64));
+            assertEquals(SelectionSort.DEFAULT_STRATEGY_THRESHOLD, new SelectionSort(false).getStrategyThreshold());
+            SelectionSort tunedSorter = SelectionSort.tuned(false);
+            assertEquals(200, tunedSorter.getStrategyThreshold());
+            assertEquals(16, tunedSorter.getInsertionDescentRatio());
+            assertEquals(32, new RangeSelectionSort(false).getStrategyThreshold());
+            try (ParallelSelectionSort parallel = new ParallelSelectionSort(false)) {
+                assertEquals(4096, parallel.getSequentialCutoff());
+            }
+            assertEquals(64, new VectorizedSelectionSort(false).getVectorCutoff());
+
+            int[] array = new Random(7).ints(500, 0, 1000).toArray();
+            int[] expected = sortedCopy(array);
+            tunedSorter.sort(array);
+            assertArrayEquals(expected, array);
+        } finally {
+            TuningProfile.setCurrent(original);
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     @Order(25)
     @DisplayName("Compare performance: Random vs Sorted vs Reverse")
@@ -84,6 +883,141 @@ public class SelectionSortTest {
         assertTrue(reverseMetrics.getSwaps() >= sortedMetrics.getSwaps());
     }
 
+    @Test
+    @Order(26)
+    @DisplayName("Test sampled metrics extrapolation and latency percentiles")
+    void testSampledSortingMetrics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(1, histogram.getMin());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5_000, histogram.getValueAtPercentile(50), 5_000 / 128.0);
+        assertEquals(9_900, histogram.getValueAtPercentile(99), 9_900 / 128.0);
+        assertEquals(9_990, histogram.getValueAtPercentile(99.9), 9_990 / 128.0);
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+
+        // Every call sampled: totals are exact and carry no error.
+        SampledSortingMetrics everyCall = new SampledSortingMetrics(1);
+        SelectionSort exhaustive = new SelectionSort(everyCall);
+        long exactComparisons = 0;
+        for (int i = 0; i < 20; i++) {
+            int[] array = generateRandomArray(50 + i);
+            exhaustive.sort(array);
+            assertTrue(InputValidator.isSorted(array));
+            exactComparisons += SortingMetrics.theoreticalComparisons(50 + i);
+        }
+        assertEquals(exactComparisons, everyCall.getComparisons());
+        assertEquals(0, everyCall.estimateComparisons().errorBound());
+
+        SampledSortingMetrics sampled = new SampledSortingMetrics(10, 42);
+        SelectionSort sampledSorter = new SelectionSort(sampled);
+        SelectionSort exactSorter = new SelectionSort(true);
+        long exactSwaps = 0;
+        for (int i = 0; i < 2_000; i++) {
+            int[] array = generateRandomArray(100);
+            int[] copy = array.clone();
+            sampledSorter.sort(array);
+            assertTrue(InputValidator.isSorted(array));
+            exactSorter.sort(copy);
+            exactSwaps += exactSorter.getMetrics().getSwaps();
+        }
+        assertEquals(2_000, sampled.getCalls());
+        assertTrue(sampled.getSampledCalls() > 100 && sampled.getSampledCalls() < 300);
+        assertEquals(2_000L * SortingMetrics.theoreticalComparisons(100), sampled.getComparisons());
+        SampledSortingMetrics.Estimate swaps = sampled.estimateSwaps();
+        assertTrue(Math.abs(swaps.value() - exactSwaps) <= swaps.errorBound(), swaps + " vs " + exactSwaps);
+        assertEquals(sampled.getSampledCalls(), sampled.getLatency(100).getTotalCount());
+
+        assertTrue(sampled.generateReport().contains("p999"));
+        assertEquals(SampledSortingMetrics.getSampledCSVHeader().split(",").length, sampled.toCSV().split(",").length);
+        sampled.reset();
+        assertEquals(0, sampled.getCalls());
+
+        // Sampled tiny arrays run the sorting network like the unsampled ones; selection and partial-sort
+        // entry points ask shouldSample too, so their calls land in their size bucket.
+        SampledSortingMetrics tiny = new SampledSortingMetrics(1);
+        new SelectionSort(tiny).sort(generateRandomArray(8));
+        assertEquals(SortMode.NETWORK, tiny.getMode());
+        assertEquals(SmallArraySorter.comparatorCount(8), tiny.getComparisons());
+        SampledSortingMetrics rare = new SampledSortingMetrics(1_000, 42);
+        SelectionSort rareSorter = new SelectionSort(rare);
+        for (int i = 0; i < 100; i++) {
+            rareSorter.nthElement(generateRandomArray(100), 50);
+            rareSorter.selectBottomK(generateRandomArray(100), 5);
+        }
+        assertEquals(200, rare.getCalls());
+        assertTrue(rare.getSampledCalls() < 10);
+        assertEquals(rare.getSampledCalls(), rare.getLatency(100).getTotalCount());
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Test JFR sort events and the telemetry MXBean")
+    void testSortingTelemetry() throws Exception {
+        Path file = Files.createTempFile("sort-telemetry", ".jfr");
+        SelectionSort sorter = new SelectionSort(true);
+        try (Recording recording = new Recording()) {
+            recording.enable("com.sorting.Sort");
+            recording.enable("com.sorting.SortPhase");
+            recording.start();
+            sorter.sort(generateRandomArray(100));
+            sorter.sortAdaptive(generateSortedArray(50));
+            new SelectionSort(false).sortDescending(generateRandomArray(30));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        List<RecordedEvent> sorts = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.sorting.Sort")).toList();
+        assertEquals(3, sorts.size());
+        RecordedEvent first = sorts.get(0);
+        assertEquals("Selection Sort", first.getString("algorithm"));
+        assertEquals(100, first.getInt("arraySize"));
+        assertEquals(SortingMetrics.theoreticalComparisons(100), first.getLong("comparisons"));
+        assertFalse(sorts.get(2).getBoolean("instrumented"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.sorting.SortPhase")
+                && "Already sorted".equals(e.getString("phase"))));
+
+        SortingTelemetry.register();
+        try {
+            SortingMetricsMXBean mxBean = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                    new ObjectName(SortingTelemetry.OBJECT_NAME), SortingMetricsMXBean.class);
+            for (int i = 0; i < 10; i++) {
+                sorter.sort(generateRandomArray(100));
+            }
+            new SelectionSort(new ConcurrentSortingMetrics()).sort(generateRandomArray(100));
+            // A chunked sort is one call however many blocks it splits into; primitive overloads count too.
+            try (ParallelSelectionSort parallel = new ParallelSelectionSort(false, 4, 64)) {
+                parallel.sortChunked(generateRandomArray(1_000));
+            }
+            new PrimitiveSelectionSort(false).sort(new Random(3).longs(100).toArray());
+            assertEquals(13, mxBean.getSortCount());
+            assertEquals(11, mxBean.getInstrumentedSortCount());
+            assertEquals(2_200, mxBean.getElementsSorted());
+            assertEquals(10 * SortingMetrics.theoreticalComparisons(100), mxBean.getComparisons());
+            assertTrue(mxBean.getSortsPerSecond() > 0);
+            assertTrue(mxBean.getLatencyP50Millis() <= mxBean.getLatencyP999Millis());
+            assertTrue(mxBean.getLatencyP999Millis() <= mxBean.getMaxLatencyMillis());
+            mxBean.reset();
+            assertEquals(0, mxBean.getSortCount());
+        } finally {
+            SortingTelemetry.unregister();
+        }
+        assertFalse(SortingTelemetry.isRegistered());
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(SortingTelemetry.OBJECT_NAME)));
+    }
+
+    private int[] sortedCopy(int[] array) {
+        int[] copy = array.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
     private int[] generateRandomArray(int size) {
         int[] array = new int[size];
         for (int i = 0; i < size; i++) {
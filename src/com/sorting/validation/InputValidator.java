@@ -7,6 +7,42 @@ public class InputValidator {
         }
     }
 
+    public static void validateArray(long[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
+    public static void validateArray(double[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
+    public static void validateArray(float[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
+    public static void validateArray(short[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
+    public static void validateArray(char[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
+    public static void validateArray(byte[] array) {
+        if (array == null) {
+            throw new IllegalArgumentException ("Array cannot be null");
+        }
+    }
+
     public static void validateNonEmptyArray(int[] array) {
         validateArray (array);
         if (array.length == 0) {
@@ -42,6 +78,15 @@ public class InputValidator {
         }
     }
 
+    public static void validateSelectionCount(int[] array, int k) {
+        validateArray (array);
+        if (k < 0 || k > array.length) {
+            throw new IllegalArgumentException (
+                    String.format ("k must be between 0 and %d, got %d", array.length, k)
+            );
+        }
+    }
+
     public static void validateRange(int[] array, int start, int end) {
         validateArray (array);
         if (start < 0) {
@@ -131,9 +176,256 @@ public class InputValidator {
         return java.util.Arrays.equals (originalCopy, sortedCopy);
     }
 
+    public static boolean isSorted(long[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Long.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(double[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Double.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(float[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Float.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(short[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Short.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(char[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Character.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSorted(byte[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Byte.compare (array[i], array[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(long[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Long.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(double[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Double.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(float[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Float.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(short[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Short.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(char[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Character.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSortedDescending(byte[] array) {
+        if (array == null || array.length <= 1) {
+            return true;
+        }
+        for (int i = 0; i < array.length - 1; i++) {
+            if (Byte.compare (array[i], array[i + 1]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean verifySortCorrectness(long[] original, long[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        long[] originalCopy = original.clone ();
+        long[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
+    public static boolean verifySortCorrectness(double[] original, double[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        double[] originalCopy = original.clone ();
+        double[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
+    public static boolean verifySortCorrectness(float[] original, float[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        float[] originalCopy = original.clone ();
+        float[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
+    public static boolean verifySortCorrectness(short[] original, short[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        short[] originalCopy = original.clone ();
+        short[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
+    public static boolean verifySortCorrectness(char[] original, char[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        char[] originalCopy = original.clone ();
+        char[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
+    public static boolean verifySortCorrectness(byte[] original, byte[] sorted) {
+        if (original == null || sorted == null || original.length != sorted.length) {
+            return false;
+        }
+        if (!isSorted (sorted)) {
+            return false;
+        }
+
+        byte[] originalCopy = original.clone ();
+        byte[] sortedCopy = sorted.clone ();
+        java.util.Arrays.sort (originalCopy);
+        java.util.Arrays.sort (sortedCopy);
+
+        return java.util.Arrays.equals (originalCopy, sortedCopy);
+    }
+
     public static int[] validateAndParseInput(String input) {
+        if (input == null) {
+            throw new IllegalArgumentException ("Input cannot be null");
+        }
 
-        return new int[0];
+        int[] values = IntParser.parse (input);
+        if (values.length == 0) {
+            throw new IllegalArgumentException ("Input contains no integers");
+        }
+        return values;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.sorting.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Single-pass parser for whitespace- or comma-separated ints. Characters are scanned straight out of a
+// fixed chunk buffer and accumulated digit by digit into a growable int[], so there is no per-token
+// String, no split and no Integer.parseInt. Errors report the offset of the offending token
+// (chars for String/Reader input, bytes for streams and files).
+public final class IntParser {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int count;
+
+    private long offset;
+    private long tokenStart = -1;
+    private long magnitude;
+    private boolean negative;
+    private boolean hasDigits;
+
+    private IntParser() {
+    }
+
+    public static int[] parse(String input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+
+        IntParser parser = new IntParser();
+        char[] chunk = new char[Math.min(CHUNK_SIZE, input.length())];
+        for (int from = 0, n = input.length(); from < n; from += chunk.length) {
+            int length = Math.min(chunk.length, n - from);
+            input.getChars(from, from + length, chunk, 0);
+            parser.scan(chunk, length);
+        }
+        return parser.finish();
+    }
+
+    public static int[] parse(Reader reader) throws IOException {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+
+        IntParser parser = new IntParser();
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            parser.scan(chunk, read);
+        }
+        return parser.finish();
+    }
+
+    public static int[] parse(InputStream in) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream cannot be null");
+        }
+
+        IntParser parser = new IntParser();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            parser.scan(chunk, read);
+        }
+        return parser.finish();
+    }
+
+    public static int[] parse(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return parse(in);
+        }
+    }
+
+    // Digit runs are accumulated in a local; everything else goes through acceptOther once per token.
+    // A token may straddle two chunks, so its state lives in fields between calls.
+    private void scan(char[] chunk, int length) {
+        int i = 0;
+        while (i < length) {
+            int c = chunk[i];
+            if (c >= '0' && c <= '9') {
+                if (tokenStart < 0) {
+                    tokenStart = offset + i;
+                }
+                long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+                long value = magnitude;
+                do {
+                    value = value * 10 + (c - '0');
+                    if (value > limit) {
+                        throw error("Integer out of range");
+                    }
+                } while (++i < length && (c = chunk[i]) >= '0' && c <= '9');
+                magnitude = value;
+                hasDigits = true;
+            } else {
+                acceptOther(c, offset + i);
+                i++;
+            }
+        }
+        offset += length;
+    }
+
+    private void scan(byte[] chunk, int length) {
+        int i = 0;
+        while (i < length) {
+            int c = chunk[i];
+            if (c >= '0' && c <= '9') {
+                if (tokenStart < 0) {
+                    tokenStart = offset + i;
+                }
+                long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+                long value = magnitude;
+                do {
+                    value = value * 10 + (c - '0');
+                    if (value > limit) {
+                        throw error("Integer out of range");
+                    }
+                } while (++i < length && (c = chunk[i]) >= '0' && c <= '9');
+                magnitude = value;
+                hasDigits = true;
+            } else {
+                acceptOther(c & 0xFF, offset + i);
+                i++;
+            }
+        }
+        offset += length;
+    }
+
+    private void acceptOther(int c, long position) {
+        if (c == ' ' || c == ',' || c == '\n' || c == '\r' || c == '\t') {
+            if (tokenStart >= 0) {
+                endToken();
+            }
+        } else if ((c == '-' || c == '+') && tokenStart < 0) {
+            tokenStart = position;
+            negative = c == '-';
+        } else {
+            if (tokenStart < 0) {
+                tokenStart = position;
+            }
+            throw error(String.format("Unexpected character '%c'", (char) c));
+        }
+    }
+
+    private void endToken() {
+        if (!hasDigits) {
+            throw error("Sign without digits");
+        }
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count + (count >> 1));
+        }
+        values[count++] = (int) (negative ? -magnitude : magnitude);
+
+        tokenStart = -1;
+        magnitude = 0;
+        negative = false;
+        hasDigits = false;
+    }
+
+    private int[] finish() {
+        if (tokenStart >= 0) {
+            endToken();
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private IllegalArgumentException error(String reason) {
+        return new IllegalArgumentException(
+                String.format("%s in token at offset %d (integer #%d)", reason, tokenStart, count + 1));
+    }
+}